@@ -0,0 +1,53 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.data.BookingDataGenerator;
+import org.example.json.JsonCodecs;
+import org.example.models.BookingRequest;
+import org.example.models.BookingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonCodecBenchmark {
+    private final ObjectMapper reflectiveMapper = new ObjectMapper();
+
+    private BookingRequest request;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp() {
+        request = new BookingDataGenerator(42L).next();
+        responseBytes = JsonCodecs.BOOKING_RESPONSE.write(new BookingResponse(1, request));
+    }
+
+    @Benchmark
+    public byte[] writeViaMapperString() throws Exception {
+        return reflectiveMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeViaCodec() {
+        return JsonCodecs.BOOKING_REQUEST.write(request);
+    }
+
+    @Benchmark
+    public BookingResponse readViaMapperString() throws Exception {
+        return reflectiveMapper.readValue(new String(responseBytes, StandardCharsets.UTF_8), BookingResponse.class);
+    }
+
+    @Benchmark
+    public BookingResponse readViaCodec() {
+        return JsonCodecs.BOOKING_RESPONSE.read(responseBytes);
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.bench;
+
+import io.cucumber.core.cli.Main;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.http.HttpExchangeFilter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StartupBenchmark {
+    private static final Logger logger = LogManager.getLogger(StartupBenchmark.class);
+    private static final String PROBE = "--probe";
+    private static final String RESULT_PREFIX = "time-to-first-request-ms=";
+    private static final String PROBE_OUTPUT_DIR = "target/startup";
+    private static final AtomicInteger PROBE_LAUNCHES = new AtomicInteger();
+
+    private final int runs = TestConfig.getIntProperty("startup.runs", 5);
+    private final long timeoutSeconds = TestConfig.getLongProperty("startup.timeout.seconds", 120);
+    private final Path archive = Paths.get(TestConfig.getProperty("startup.cds.archive", "target/appcds-suite.jsa"));
+    private final Path historyFile = Paths.get(TestConfig.getProperty("startup.history.file", ".perf-history/startup.csv"));
+
+    public static void main(String[] args) {
+        if (args.length > 0 && PROBE.equals(args[0])) {
+            System.exit(probe());
+        }
+        System.exit(new StartupBenchmark().run());
+    }
+
+    private static int probe() {
+        long mainEnteredMillis = System.currentTimeMillis();
+        AtomicLong firstResponseMillis = new AtomicLong();
+        HttpExchangeFilter.addListener(exchange -> firstResponseMillis.compareAndSet(0, System.currentTimeMillis()));
+
+        byte exitStatus = Main.run(new String[]{
+                "--glue", "org.example.steps",
+                "--plugin", "org.example.report.NdjsonReportPlugin:" + PROBE_OUTPUT_DIR + "/probe.ndjson",
+                "--plugin", "org.example.profile.FoldedStackPlugin:" + PROBE_OUTPUT_DIR + "/probe.folded",
+                "--plugin", "org.example.jfr.JfrRecordingPlugin",
+                "--monochrome",
+                TestConfig.getProperty("startup.features", "classpath:features/ping")
+        }, Thread.currentThread().getContextClassLoader());
+
+        if (firstResponseMillis.get() == 0) {
+            System.out.println("No HTTP request was made by the startup probe");
+            return 1;
+        }
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.println(RESULT_PREFIX + (firstResponseMillis.get() - jvmStartMillis)
+                + " jvm-to-main-ms=" + (mainEnteredMillis - jvmStartMillis));
+        return exitStatus;
+    }
+
+    public int run() {
+        trainArchive();
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of("-Xshare:auto"));
+        if (Files.exists(archive)) {
+            variants.put("appcds", List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:auto"));
+        }
+
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        variants.keySet().forEach(variant -> samples.put(variant, new ArrayList<>()));
+        for (int i = 0; i < runs; i++) {
+            for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+                Long millis = launchProbe(variant.getValue());
+                if (millis != null) {
+                    samples.get(variant.getKey()).add(millis);
+                }
+            }
+        }
+
+        boolean complete = true;
+        for (Map.Entry<String, List<Long>> variant : samples.entrySet()) {
+            List<Long> millis = variant.getValue();
+            if (millis.isEmpty()) {
+                logger.error("Startup variant {} produced no samples", variant.getKey());
+                complete = false;
+                continue;
+            }
+            Collections.sort(millis);
+            logger.info("Time to first request [{}]: median {} ms, min {} ms, max {} ms over {} run(s)",
+                    variant.getKey(), median(millis), millis.get(0), millis.get(millis.size() - 1), millis.size());
+            appendHistory(variant.getKey(), millis);
+        }
+        if (samples.size() == 2 && !samples.get("default").isEmpty() && !samples.get("appcds").isEmpty()) {
+            long saved = median(samples.get("default")) - median(samples.get("appcds"));
+            logger.info("AppCDS archive saves {} ms of median time to first request", saved);
+        }
+        return complete ? 0 : 1;
+    }
+
+    private void trainArchive() {
+        logger.info("Training AppCDS archive {}", archive);
+        try {
+            if (archive.getParent() != null) {
+                Files.createDirectories(archive.getParent());
+            }
+            Files.deleteIfExists(archive);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to prepare AppCDS archive " + archive, e);
+        }
+        if (launchProbe(List.of("-XX:ArchiveClassesAtExit=" + archive)) == null || !Files.exists(archive)) {
+            logger.warn("AppCDS training run did not produce {}, benchmarking without it", archive);
+        }
+    }
+
+    private Long launchProbe(List<String> jvmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dreport.render=false");
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupBenchmark.class.getName());
+        command.add(PROBE);
+
+        Path output = Paths.get(PROBE_OUTPUT_DIR, "probe-" + PROBE_LAUNCHES.incrementAndGet() + ".log");
+        try {
+            Files.createDirectories(output.getParent());
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                logger.warn("Startup probe {} timed out after {} s, output in {}", jvmArgs, timeoutSeconds, output);
+                return null;
+            }
+            if (process.exitValue() != 0) {
+                logger.warn("Startup probe {} exited with status {}, output in {}", jvmArgs, process.exitValue(), output);
+            }
+            for (String line : Files.readAllLines(output, StandardCharsets.UTF_8)) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    logger.debug("Startup probe {}: {}", jvmArgs, line);
+                    return Long.parseLong(line.substring(RESULT_PREFIX.length()).split(" ")[0]);
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to launch startup probe", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for startup probe", e);
+        }
+    }
+
+    private void appendHistory(String variant, List<Long> sortedMillis) {
+        try {
+            if (historyFile.getParent() != null) {
+                Files.createDirectories(historyFile.getParent());
+            }
+            boolean newFile = !Files.exists(historyFile);
+            try (Writer writer = Files.newBufferedWriter(historyFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (newFile) {
+                    writer.write("timestamp,variant,runs,median_ms,min_ms,max_ms\n");
+                }
+                writer.write(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d%n", Instant.now(), variant,
+                        sortedMillis.size(), median(sortedMillis), sortedMillis.get(0),
+                        sortedMillis.get(sortedMillis.size() - 1)));
+            }
+        } catch (IOException e) {
+            logger.error("Failed to append startup history to {}: {}", historyFile, e.getMessage());
+        }
+    }
+
+    private static long median(List<Long> sortedMillis) {
+        return sortedMillis.get(sortedMillis.size() / 2);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.budget;
+
+public final class CallBudgetTracker {
+    private static final CallBudgetTracker INSTANCE = new CallBudgetTracker();
+
+    private final InheritableThreadLocal<ScenarioCalls> current = new InheritableThreadLocal<>();
+
+    private CallBudgetTracker() {
+    }
+
+    public static CallBudgetTracker getInstance() {
+        return INSTANCE;
+    }
+
+    public void start(String scenario) {
+        current.set(new ScenarioCalls(scenario));
+    }
+
+    public ScenarioCalls finish() {
+        ScenarioCalls calls = current.get();
+        current.remove();
+        return calls;
+    }
+
+    public void recordCall(String endpoint) {
+        ScenarioCalls calls = current.get();
+        if (calls != null) {
+            calls.record(endpoint);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.budget;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.json.JsonCodecs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CallBudgets {
+    private static final Logger logger = LogManager.getLogger(CallBudgets.class);
+    private static final ObjectReader reader = JsonCodecs.readerFor(new TypeReference<LinkedHashMap<String, Map<String, Integer>>>() {
+    });
+    private static final String TOTAL = "total";
+    private static final String MAX_CALLS_TAG = "@maxCalls=";
+
+    private final Map<String, Map<String, Integer>> budgets;
+
+    public CallBudgets(Map<String, Map<String, Integer>> budgets) {
+        this.budgets = budgets;
+    }
+
+    public static CallBudgets fromConfig() {
+        File budgetFile = new File(TestConfig.getProperty("callbudget.file", "src/test/resources/call-budgets.json"));
+        if (!budgetFile.exists()) {
+            logger.info("Call budget file {} not found, only @maxCalls tags will be enforced", budgetFile);
+            return new CallBudgets(Map.of());
+        }
+        try {
+            return new CallBudgets(reader.readValue(budgetFile));
+        } catch (IOException e) {
+            logger.error("Failed to read call budget file {}: {}", budgetFile, e.getMessage());
+            throw new RuntimeException("Failed to read call budget file", e);
+        }
+    }
+
+    public Map<String, Integer> limitsFor(String scenario, Collection<String> tags) {
+        Map<String, Integer> limits = new LinkedHashMap<>(budgets.getOrDefault(scenario, Map.of()));
+        for (String tag : tags) {
+            if (tag.startsWith(MAX_CALLS_TAG)) {
+                try {
+                    limits.put(TOTAL, Integer.parseInt(tag.substring(MAX_CALLS_TAG.length())));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid call budget tag " + tag + " on " + scenario, e);
+                }
+            }
+        }
+        return limits;
+    }
+
+    public List<String> evaluate(ScenarioCalls calls, Map<String, Integer> limits) {
+        List<String> violations = new ArrayList<>();
+        Map<String, Integer> counts = calls.getCountsByEndpoint();
+        limits.forEach((endpoint, limit) -> {
+            int actual = TOTAL.equals(endpoint) ? calls.getTotal() : counts.getOrDefault(endpoint, 0);
+            if (actual > limit) {
+                violations.add(String.format("%s made %d %s call(s), budget %d",
+                        calls.getScenario(), actual, TOTAL.equals(endpoint) ? "HTTP" : endpoint, limit));
+            }
+        });
+        return violations;
+    }
+}
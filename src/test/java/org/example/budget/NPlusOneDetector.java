@@ -0,0 +1,44 @@
+package org.example.budget;
+
+import org.example.config.TestConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class NPlusOneDetector {
+    private static final String ID_SEGMENT = "/{id}";
+
+    private final int threshold;
+
+    public NPlusOneDetector(int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("N+1 threshold must be at least 2");
+        }
+        this.threshold = threshold;
+    }
+
+    public static NPlusOneDetector fromConfig() {
+        return new NPlusOneDetector(TestConfig.getIntProperty("callbudget.n1.threshold", 5));
+    }
+
+    public List<String> detect(List<String> endpoints) {
+        List<String> findings = new ArrayList<>();
+        for (int i = 0; i < endpoints.size(); i++) {
+            String listCall = endpoints.get(i);
+            if (!listCall.startsWith("GET ") || listCall.contains("{id}")) {
+                continue;
+            }
+            String itemCall = listCall + ID_SEGMENT;
+            int itemCalls = 0;
+            for (int j = i + 1; j < endpoints.size() && !endpoints.get(j).equals(listCall); j++) {
+                if (endpoints.get(j).equals(itemCall)) {
+                    itemCalls++;
+                }
+            }
+            if (itemCalls >= threshold) {
+                findings.add(String.format("%s followed by %d %s calls", listCall, itemCalls, itemCall));
+            }
+        }
+        return findings;
+    }
+}
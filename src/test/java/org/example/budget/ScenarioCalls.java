@@ -0,0 +1,37 @@
+package org.example.budget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ScenarioCalls {
+    private final String scenario;
+    private final List<String> endpoints = new ArrayList<>();
+
+    public ScenarioCalls(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public synchronized void record(String endpoint) {
+        endpoints.add(endpoint);
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public synchronized List<String> getEndpoints() {
+        return List.copyOf(endpoints);
+    }
+
+    public synchronized int getTotal() {
+        return endpoints.size();
+    }
+
+    public synchronized Map<String, Integer> getCountsByEndpoint() {
+        Map<String, Integer> counts = new TreeMap<>();
+        endpoints.forEach(endpoint -> counts.merge(endpoint, 1, Integer::sum));
+        return counts;
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.compare;
+
+import io.cucumber.core.cli.Main;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.context.ScenarioContext;
+import org.example.data.TestDataNamespace;
+import org.example.http.HttpExchangeFilter;
+import org.example.index.BookingShadowIndex;
+import org.example.json.JsonCodecs;
+import org.example.stats.Bootstrap;
+import org.example.stats.MannWhitneyU;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+public class AbComparisonRunner {
+    private static final Logger logger = LogManager.getLogger(AbComparisonRunner.class);
+    private static final String BASELINE = "baseline";
+    private static final String CANDIDATE = "candidate";
+    private static final String ALL_ENDPOINTS = "ALL";
+
+    private final String baselineUrl = TestConfig.getProperty("compare.baseline.url", "").isBlank()
+            ? TestConfig.getConfiguredBaseUrl() : TestConfig.getProperty("compare.baseline.url", "").trim();
+    private final String candidateUrl = TestConfig.getProperty("compare.candidate.url", "").trim();
+    private final int rounds = TestConfig.getIntProperty("compare.rounds", 4);
+    private final int warmupRounds = TestConfig.getIntProperty("compare.warmup.rounds", 1);
+    private final double confidence = TestConfig.getDoubleProperty("compare.confidence", 0.95);
+    private final double alpha = TestConfig.getDoubleProperty("compare.alpha", 0.05);
+    private final int resamples = TestConfig.getIntProperty("compare.bootstrap.resamples", 2000);
+    private final long seed = TestConfig.getLongProperty("compare.seed", 42);
+    private final boolean failOnRegression = TestConfig.getBooleanProperty("compare.fail.on.regression", false);
+    private final Path outputFile = Paths.get(TestConfig.getProperty("compare.output", "target/cucumber-reports/ab-comparison.json"));
+
+    public static void main(String[] args) {
+        System.exit(new AbComparisonRunner().run());
+    }
+
+    public int run() {
+        if (candidateUrl.isBlank()) {
+            logger.error("compare.candidate.url must be set to compare against {}", baselineUrl);
+            return 1;
+        }
+        TargetRecorder recorder = new TargetRecorder();
+        HttpExchangeFilter.addListener(recorder);
+        logger.info("Comparing {} (baseline) with {} (candidate) over {} ABBA round pair(s) after {} warm-up pair(s)",
+                baselineUrl, candidateUrl, rounds, warmupRounds);
+        try {
+            for (int i = 0; i < warmupRounds; i++) {
+                runOnce(baselineUrl, null, "warm-up baseline");
+                runOnce(candidateUrl, null, "warm-up candidate");
+            }
+            for (int i = 0; i < rounds; i++) {
+                boolean baselineFirst = i % 2 == 0;
+                runOnce(baselineFirst ? baselineUrl : candidateUrl, recorder, baselineFirst ? BASELINE : CANDIDATE);
+                runOnce(baselineFirst ? candidateUrl : baselineUrl, recorder, baselineFirst ? CANDIDATE : BASELINE);
+            }
+        } finally {
+            TestConfig.setBaseUrlOverride(null);
+        }
+
+        List<String> regressions = new ArrayList<>();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (String endpoint : recorder.endpoints()) {
+            endpoints.put(endpoint, compareEndpoint(recorder, endpoint, regressions));
+        }
+        endpoints.put(ALL_ENDPOINTS, compareThroughput(recorder, null, new LinkedHashMap<>(), ALL_ENDPOINTS));
+        writeReport(endpoints);
+
+        if (!regressions.isEmpty()) {
+            regressions.forEach(regression -> logger.warn("Candidate is significantly slower: {}", regression));
+            return failOnRegression ? 2 : 0;
+        }
+        return 0;
+    }
+
+    private void runOnce(String baseUrl, TargetRecorder recorder, String label) {
+        TestConfig.setBaseUrlOverride(baseUrl);
+        if (recorder != null) {
+            recorder.beginRound(label);
+        }
+        long started = System.nanoTime();
+        byte exitStatus = Main.run(buildCucumberArguments(), Thread.currentThread().getContextClassLoader());
+        long durationNanos = System.nanoTime() - started;
+        if (recorder != null) {
+            recorder.endRound(durationNanos);
+        }
+        ScenarioContext.getInstance().clear();
+        BookingShadowIndex.getInstance().clear();
+        TestDataNamespace.getInstance().rotate();
+        logger.info("{} run against {} took {} ms{}", label, baseUrl, durationNanos / 1_000_000,
+                exitStatus != 0 ? " and had failures" : "");
+    }
+
+    private Map<String, Object> compareEndpoint(TargetRecorder recorder, String endpoint, List<String> regressions) {
+        double[] baseline = recorder.latenciesMillis(BASELINE, endpoint);
+        double[] candidate = recorder.latenciesMillis(CANDIDATE, endpoint);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("baselineCount", baseline.length);
+        summary.put("candidateCount", candidate.length);
+        summary.put("baselineErrors", recorder.errors(BASELINE, endpoint));
+        summary.put("candidateErrors", recorder.errors(CANDIDATE, endpoint));
+        if (baseline.length > 0 && candidate.length > 0) {
+            double baselineMedian = Bootstrap.median(baseline);
+            double candidateMedian = Bootstrap.median(candidate);
+            double[] interval = interval(candidate, baseline, Bootstrap::median);
+            double pValue = MannWhitneyU.pValueTwoSided(candidate, baseline);
+            summary.put("baselineMedianMillis", baselineMedian);
+            summary.put("candidateMedianMillis", candidateMedian);
+            summary.put("medianDifferenceMillis", candidateMedian - baselineMedian);
+            summary.put("medianDifferenceLowMillis", interval[0]);
+            summary.put("medianDifferenceHighMillis", interval[1]);
+            summary.put("latencyPValue", pValue);
+            logger.info(String.format(Locale.ROOT,
+                    "%s latency: median %.1f ms -> %.1f ms, difference %+.1f ms [%+.1f, %+.1f] at %.0f%%, Mann-Whitney p=%.4f (n=%d vs %d)",
+                    endpoint, baselineMedian, candidateMedian, candidateMedian - baselineMedian, interval[0],
+                    interval[1], confidence * 100, pValue, baseline.length, candidate.length));
+            if (pValue < alpha && interval[0] > 0) {
+                regressions.add(String.format(Locale.ROOT, "%s median +%.1f ms (p=%.4f)",
+                        endpoint, candidateMedian - baselineMedian, pValue));
+            }
+        }
+        return compareThroughput(recorder, endpoint, summary, endpoint);
+    }
+
+    private Map<String, Object> compareThroughput(TargetRecorder recorder, String endpoint, Map<String, Object> summary,
+                                                  String label) {
+        double[] baseline = recorder.roundThroughputs(BASELINE, endpoint);
+        double[] candidate = recorder.roundThroughputs(CANDIDATE, endpoint);
+        if (baseline.length == 0 || candidate.length == 0) {
+            return summary;
+        }
+        double baselineMean = Bootstrap.mean(baseline);
+        double candidateMean = Bootstrap.mean(candidate);
+        double[] interval = interval(candidate, baseline, Bootstrap::mean);
+        double pValue = MannWhitneyU.pValueTwoSided(candidate, baseline);
+        summary.put("baselineRequestsPerSecond", baselineMean);
+        summary.put("candidateRequestsPerSecond", candidateMean);
+        summary.put("throughputDifferenceLow", interval[0]);
+        summary.put("throughputDifferenceHigh", interval[1]);
+        summary.put("throughputPValue", pValue);
+        logger.info(String.format(Locale.ROOT,
+                "%s throughput: %.2f req/s -> %.2f req/s, difference %+.2f [%+.2f, %+.2f] at %.0f%%, Mann-Whitney p=%.4f over %d round(s)",
+                label, baselineMean, candidateMean, candidateMean - baselineMean, interval[0], interval[1],
+                confidence * 100, pValue, baseline.length));
+        return summary;
+    }
+
+    private double[] interval(double[] candidate, double[] baseline, ToDoubleFunction<double[]> statistic) {
+        return Bootstrap.differenceInterval(candidate, baseline, statistic, confidence, resamples, seed);
+    }
+
+    private void writeReport(Map<String, Object> endpoints) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baselineUrl", baselineUrl);
+        report.put("candidateUrl", candidateUrl);
+        report.put("rounds", rounds);
+        report.put("confidence", confidence);
+        report.put("endpoints", endpoints);
+        try {
+            if (outputFile.getParent() != null) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            Files.write(outputFile, JsonCodecs.writeFields(report));
+            logger.info("A/B comparison written to {}", outputFile);
+        } catch (IOException e) {
+            logger.error("Failed to write A/B comparison {}: {}", outputFile, e.getMessage());
+        }
+    }
+
+    private String[] buildCucumberArguments() {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--glue", "org.example.steps",
+                "--plugin", "summary",
+                "--uuid-generator", "io.cucumber.core.eventbus.RandomUuidGenerator",
+                "--monochrome"
+        ));
+        String tags = TestConfig.getProperty("compare.tags", "not @load");
+        if (!tags.isBlank()) {
+            arguments.add("--tags");
+            arguments.add(tags);
+        }
+        arguments.add(TestConfig.getProperty("compare.features", "src/test/resources/features"));
+        return arguments.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.compare;
+
+import org.example.http.HttpExchange;
+import org.example.http.HttpExchangeListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class TargetRecorder implements HttpExchangeListener {
+    private final Map<String, TargetSamples> targets = new HashMap<>();
+    private volatile TargetSamples current;
+
+    public synchronized void beginRound(String target) {
+        current = targets.computeIfAbsent(target, key -> new TargetSamples());
+        current.rounds.add(new HashMap<>());
+    }
+
+    public synchronized void endRound(long durationNanos) {
+        current.roundDurationsNanos.add(durationNanos);
+        current = null;
+    }
+
+    @Override
+    public void onExchange(HttpExchange exchange) {
+        TargetSamples samples = current;
+        if (samples == null) {
+            return;
+        }
+        synchronized (this) {
+            samples.rounds.get(samples.rounds.size() - 1).merge(exchange.getEndpoint(), 1, Integer::sum);
+            if (exchange.getFailure() != null || exchange.getStatusCode() >= 500) {
+                samples.errors.merge(exchange.getEndpoint(), 1, Integer::sum);
+            } else {
+                samples.latenciesMillis.computeIfAbsent(exchange.getEndpoint(), key -> new ArrayList<>())
+                        .add(exchange.getDurationMillis());
+            }
+        }
+    }
+
+    public synchronized Set<String> endpoints() {
+        Set<String> endpoints = new TreeSet<>();
+        targets.values().forEach(samples -> samples.rounds.forEach(round -> endpoints.addAll(round.keySet())));
+        return endpoints;
+    }
+
+    public synchronized double[] latenciesMillis(String target, String endpoint) {
+        TargetSamples samples = targets.get(target);
+        List<Double> latencies = samples == null ? List.of() : samples.latenciesMillis.getOrDefault(endpoint, List.of());
+        double[] values = new double[latencies.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = latencies.get(i);
+        }
+        return values;
+    }
+
+    public synchronized int errors(String target, String endpoint) {
+        TargetSamples samples = targets.get(target);
+        return samples == null ? 0 : samples.errors.getOrDefault(endpoint, 0);
+    }
+
+    public synchronized double[] roundThroughputs(String target, String endpoint) {
+        TargetSamples samples = targets.get(target);
+        if (samples == null) {
+            return new double[0];
+        }
+        double[] throughputs = new double[samples.roundDurationsNanos.size()];
+        for (int i = 0; i < throughputs.length; i++) {
+            Map<String, Integer> round = samples.rounds.get(i);
+            int requests = endpoint == null
+                    ? round.values().stream().mapToInt(Integer::intValue).sum()
+                    : round.getOrDefault(endpoint, 0);
+            throughputs[i] = requests / (samples.roundDurationsNanos.get(i) / 1_000_000_000.0);
+        }
+        return throughputs;
+    }
+
+    private static final class TargetSamples {
+        private final List<Map<String, Integer>> rounds = new ArrayList<>();
+        private final List<Long> roundDurationsNanos = new ArrayList<>();
+        private final Map<String, List<Double>> latenciesMillis = new HashMap<>();
+        private final Map<String, Integer> errors = new HashMap<>();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Properties;
 
 public class TestConfig {
     private static final Properties properties = new Properties();
+    private static volatile String baseUrlOverride;
 
     static {
         try {
@@ -18,9 +19,18 @@ public class TestConfig {
     }
 
     public static String getBaseUrl() {
+        String override = baseUrlOverride;
+        return override != null ? override : getConfiguredBaseUrl();
+    }
+
+    public static String getConfiguredBaseUrl() {
         return properties.getProperty("base.url");
     }
 
+    public static void setBaseUrlOverride(String baseUrl) {
+        baseUrlOverride = baseUrl;
+    }
+
     public static String getAdminUsername() {
         return properties.getProperty("admin.username");
     }
@@ -28,4 +38,28 @@ public class TestConfig {
     public static String getAdminPassword() {
         return properties.getProperty("admin.password");
     }
-}
\ No newline at end of file
+
+    public static String getProperty(String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public static long getLongProperty(String key, long defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public static double getDoubleProperty(String key, double defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.consistency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.json.JsonCodecs;
+import org.example.metrics.LatencyHistogram;
+import org.example.profile.WallClockProfiler;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class VisibilityProbe {
+    private static final Logger logger = LogManager.getLogger(VisibilityProbe.class);
+    private static final VisibilityProbe INSTANCE = new VisibilityProbe();
+
+    private final boolean enabled = TestConfig.getBooleanProperty("visibility.probe.enabled", false);
+    private final long pollIntervalMs = TestConfig.getLongProperty("visibility.poll.interval.ms", 20);
+    private final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(TestConfig.getLongProperty("visibility.timeout.ms", 10000));
+    private final Map<String, LatencyHistogram> earliestVisible = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> latestVisible = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> timeouts = new ConcurrentHashMap<>();
+
+    private VisibilityProbe() {
+    }
+
+    public static VisibilityProbe getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void awaitWritten(String operation, int bookingId, JsonNode expected) {
+        if (enabled) {
+            await(operation, bookingId, response -> response.getStatusCode() == 200
+                    && expected.equals(JsonCodecs.readTree(response.asByteArray())));
+        }
+    }
+
+    public void awaitDeleted(int bookingId) {
+        if (enabled) {
+            await("DELETE", bookingId, response -> response.getStatusCode() == 404);
+        }
+    }
+
+    public Map<String, LatencyHistogram> getEarliestVisible() {
+        return new TreeMap<>(earliestVisible);
+    }
+
+    public Map<String, LatencyHistogram> getLatestVisible() {
+        return new TreeMap<>(latestVisible);
+    }
+
+    public long getTimeouts(String operation) {
+        LongAdder count = timeouts.get(operation);
+        return count == null ? 0 : count.sum();
+    }
+
+    @SuppressWarnings("try")
+    private void await(String operation, int bookingId, Visibility visibility) {
+        long writeCompleted = System.nanoTime();
+        int polls = 0;
+        try (WallClockProfiler.Frame ignored = WallClockProfiler.enter("visibility probe " + operation)) {
+            long previousPollSent = writeCompleted;
+            while (true) {
+                long pollSent = System.nanoTime();
+                polls++;
+                Response response = poll(bookingId);
+                long responseReceived = System.nanoTime();
+                if (visibility.isVisible(response)) {
+                    earliestVisible.computeIfAbsent(operation, key -> new LatencyHistogram())
+                            .recordNanos(previousPollSent - writeCompleted);
+                    latestVisible.computeIfAbsent(operation, key -> new LatencyHistogram())
+                            .recordNanos(responseReceived - writeCompleted);
+                    logger.debug("{} of booking {} became visible between {} and {} ms ({} poll(s))", operation, bookingId,
+                            TimeUnit.NANOSECONDS.toMillis(previousPollSent - writeCompleted),
+                            TimeUnit.NANOSECONDS.toMillis(responseReceived - writeCompleted), polls);
+                    return;
+                }
+                previousPollSent = pollSent;
+                if (System.nanoTime() - writeCompleted > timeoutNanos) {
+                    timeouts.computeIfAbsent(operation, key -> new LongAdder()).increment();
+                    logger.warn("{} of booking {} still not visible after {} ms ({} poll(s))", operation, bookingId,
+                            TimeUnit.NANOSECONDS.toMillis(timeoutNanos), polls);
+                    return;
+                }
+                Thread.sleep(pollIntervalMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Visibility probe interrupted", e);
+        }
+    }
+
+    private static Response poll(int bookingId) {
+        return RestAssured.given()
+                .baseUri(TestConfig.getBaseUrl())
+                .get("/booking/" + bookingId);
+    }
+
+    private interface Visibility {
+        boolean isVisible(Response response);
+    }
+}
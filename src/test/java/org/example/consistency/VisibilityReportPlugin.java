@@ -0,0 +1,93 @@
+package org.example.consistency;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.json.JsonCodecs;
+import org.example.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class VisibilityReportPlugin implements ConcurrentEventListener {
+    private static final Logger logger = LogManager.getLogger(VisibilityReportPlugin.class);
+    private static final List<String> VERIFIED_OPERATIONS = List.of("PUT", "PATCH");
+
+    private final Path outputFile;
+
+    public VisibilityReportPlugin() {
+        this(TestConfig.getProperty("visibility.output", "target/cucumber-reports/visibility.json"));
+    }
+
+    public VisibilityReportPlugin(String outputFile) {
+        this.outputFile = Paths.get(outputFile);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunFinished.class, event -> report());
+    }
+
+    private void report() {
+        VisibilityProbe probe = VisibilityProbe.getInstance();
+        Map<String, LatencyHistogram> earliest = probe.getEarliestVisible();
+        Map<String, LatencyHistogram> latest = probe.getLatestVisible();
+        if (!probe.isEnabled() || latest.isEmpty()) {
+            return;
+        }
+        Map<String, Object> operations = new LinkedHashMap<>();
+        double verifiedP99 = 0;
+        for (Map.Entry<String, LatencyHistogram> entry : latest.entrySet()) {
+            LatencyHistogram upper = entry.getValue();
+            LatencyHistogram lower = earliest.get(entry.getKey());
+            long timeouts = probe.getTimeouts(entry.getKey());
+            logger.info("Time to visibility after {}: n={}, between p50 {}-{} ms, p90 {}-{} ms, p99 {}-{} ms, max {}-{} ms, {} timeout(s)",
+                    entry.getKey(), upper.getCount(), lower.percentileMillis(50), upper.percentileMillis(50),
+                    lower.percentileMillis(90), upper.percentileMillis(90), lower.percentileMillis(99),
+                    upper.percentileMillis(99), lower.getMaxMillis(), upper.getMaxMillis(), timeouts);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", upper.getCount());
+            summary.put("timeouts", timeouts);
+            summary.put("earliestP50Millis", lower.percentileMillis(50));
+            summary.put("latestP50Millis", upper.percentileMillis(50));
+            summary.put("earliestP90Millis", lower.percentileMillis(90));
+            summary.put("latestP90Millis", upper.percentileMillis(90));
+            summary.put("earliestP99Millis", lower.percentileMillis(99));
+            summary.put("latestP99Millis", upper.percentileMillis(99));
+            summary.put("earliestMaxMillis", lower.getMaxMillis());
+            summary.put("latestMaxMillis", upper.getMaxMillis());
+            operations.put(entry.getKey(), summary);
+            if (VERIFIED_OPERATIONS.contains(entry.getKey())) {
+                verifiedP99 = Math.max(verifiedP99, upper.percentileMillis(99));
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("operations", operations);
+        if (verifiedP99 > 0) {
+            int attempts = TestConfig.getIntProperty("verification.max.attempts", 3);
+            double headroom = TestConfig.getDoubleProperty("visibility.headroom", 1.5);
+            long suggestedDelayMs = Math.max(1, (long) Math.ceil(verifiedP99 * headroom / Math.max(1, attempts - 1)));
+            report.put("suggestedVerificationRetryDelayMs", suggestedDelayMs);
+            logger.info("Suggested verification.retry.delay.ms={} for {} attempt(s): covers the p99 latest-visible bound of {} ms with {}x headroom",
+                    suggestedDelayMs, attempts, verifiedP99, headroom);
+        }
+        try {
+            if (outputFile.getParent() != null) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            Files.write(outputFile, JsonCodecs.writeFields(report));
+            logger.info("Visibility report written to {}", outputFile);
+        } catch (IOException e) {
+            logger.error("Failed to write visibility report {}: {}", outputFile, e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.context;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -8,10 +9,10 @@ public class ScenarioContext {
     private Map<String, Object> context;
 
     private ScenarioContext() {
-        context = new HashMap<>();
+        context = Collections.synchronizedMap(new HashMap<>());
     }
 
-    public static ScenarioContext getInstance() {
+    public static synchronized ScenarioContext getInstance() {
         if (instance == null) {
             instance = new ScenarioContext();
         }
@@ -26,6 +27,14 @@ public class ScenarioContext {
         return context.get(key);
     }
 
+    public void clear() {
+        context.clear();
+    }
+
+    public int size() {
+        return context.size();
+    }
+
     public String getFilterFirstname() {
         return (String) context.get("filterFirstname");
     }
@@ -41,4 +50,4 @@ public class ScenarioContext {
     public String getFilterCheckout() {
         return (String) context.get("filterCheckout");
     }
-}
\ No newline at end of file
+}
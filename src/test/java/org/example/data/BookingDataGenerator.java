@@ -0,0 +1,129 @@
+package org.example.data;
+
+import org.example.models.BookingDates;
+import org.example.models.BookingRequest;
+
+import java.util.Date;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+public class BookingDataGenerator {
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+            "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa",
+            "Anthony", "Betty", "Mark", "Margaret", "Donald", "Sandra", "Steven", "Ashley",
+            "Paul", "Kimberly", "Andrew", "Emily", "Joshua", "Donna", "Kenneth", "Michelle",
+            "Kevin", "Carol", "Brian", "Amanda", "George", "Melissa", "Timothy", "Deborah",
+            "Ronald", "Stephanie", "Edward", "Rebecca", "Jason", "Sharon", "Jeffrey", "Laura",
+            "Ryan", "Cynthia", "Jacob", "Kathleen", "Gary", "Amy", "Nicholas", "Angela"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White",
+            "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young",
+            "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores",
+            "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell",
+            "Carter", "Roberts", "Gomez", "Phillips", "Evans", "Turner", "Diaz", "Parker",
+            "Cruz", "Edwards", "Collins", "Reyes", "Stewart", "Morris", "Morales", "Murphy"
+    };
+
+    private final long seed;
+    private final SplittableRandom random;
+    private final BookingDataProfile profile;
+    private final String[] additionalNeeds;
+    private final int[] cumulativeNeedWeights;
+    private final int totalNeedWeight;
+    private final int checkinRangeDays;
+    private final int stayRangeNights;
+    private final double logMedianPrice;
+
+    public BookingDataGenerator(long seed) {
+        this(seed, BookingDataProfile.fromConfig());
+    }
+
+    public BookingDataGenerator(long seed, BookingDataProfile profile) {
+        this(seed, new SplittableRandom(seed), profile);
+    }
+
+    private BookingDataGenerator(long seed, SplittableRandom random, BookingDataProfile profile) {
+        this.seed = seed;
+        this.random = random;
+        this.profile = profile;
+        this.additionalNeeds = profile.getAdditionalNeeds();
+        this.cumulativeNeedWeights = toCumulativeWeights(profile.getAdditionalNeedsWeights());
+        this.totalNeedWeight = cumulativeNeedWeights[cumulativeNeedWeights.length - 1];
+        this.checkinRangeDays = Math.toIntExact(profile.getCheckinToEpochDay() - profile.getCheckinFromEpochDay() + 1);
+        this.stayRangeNights = profile.getMaxStayNights() - profile.getMinStayNights() + 1;
+        this.logMedianPrice = Math.log(Math.max(1, profile.getMedianPrice()));
+    }
+
+    public BookingRequest next() {
+        long checkinDay = profile.getCheckinFromEpochDay() + random.nextInt(checkinRangeDays);
+        long checkoutDay = checkinDay + profile.getMinStayNights() + random.nextInt(stayRangeNights);
+
+        return new BookingRequest(
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                nextPrice(),
+                random.nextDouble() < profile.getDepositPaidRatio(),
+                new BookingDates(new Date(checkinDay * MILLIS_PER_DAY), new Date(checkoutDay * MILLIS_PER_DAY)),
+                nextAdditionalNeed()
+        );
+    }
+
+    public Stream<BookingRequest> stream(long count) {
+        return Stream.generate(this::next).limit(count);
+    }
+
+    public BookingDataGenerator split() {
+        return new BookingDataGenerator(seed, random.split(), profile);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    private int nextPrice() {
+        if (profile.getPriceSpread() == 0) {
+            return profile.getMedianPrice();
+        }
+        double price = Math.exp(logMedianPrice + profile.getPriceSpread() * random.nextGaussian());
+        return (int) Math.max(profile.getMinPrice(), Math.min(profile.getMaxPrice(), Math.round(price)));
+    }
+
+    private String nextAdditionalNeed() {
+        int pick = random.nextInt(totalNeedWeight);
+        int low = 0;
+        int high = cumulativeNeedWeights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeNeedWeights[mid] > pick) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return additionalNeeds[low];
+    }
+
+    private static int[] toCumulativeWeights(int[] weights) {
+        int[] cumulative = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Additional need weights cannot be negative");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one additional need must have a positive weight");
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.data;
+
+import org.example.config.TestConfig;
+
+import java.time.LocalDate;
+
+public class BookingDataProfile {
+    private static final String DEFAULT_ADDITIONAL_NEEDS =
+            "Breakfast:50,Lunch:15,Dinner:15,Late checkout:10,Airport transfer:5,Extra bed:5";
+
+    private final long checkinFromEpochDay;
+    private final long checkinToEpochDay;
+    private final int minStayNights;
+    private final int maxStayNights;
+    private final int medianPrice;
+    private final double priceSpread;
+    private final int minPrice;
+    private final int maxPrice;
+    private final double depositPaidRatio;
+    private final String[] additionalNeeds;
+    private final int[] additionalNeedsWeights;
+
+    public BookingDataProfile(LocalDate checkinFrom, LocalDate checkinTo, int minStayNights, int maxStayNights,
+                              int medianPrice, double priceSpread, int minPrice, int maxPrice,
+                              double depositPaidRatio, String[] additionalNeeds, int[] additionalNeedsWeights) {
+        if (checkinFrom.isAfter(checkinTo)) {
+            throw new IllegalArgumentException("Checkin range start cannot be after its end");
+        }
+        if (minStayNights < 1 || maxStayNights < minStayNights) {
+            throw new IllegalArgumentException("Stay length must satisfy 1 <= min <= max");
+        }
+        if (minPrice < 0 || maxPrice < minPrice || medianPrice < minPrice || medianPrice > maxPrice) {
+            throw new IllegalArgumentException("Price bounds must satisfy 0 <= min <= median <= max");
+        }
+        if (priceSpread < 0) {
+            throw new IllegalArgumentException("Price spread cannot be negative");
+        }
+        if (depositPaidRatio < 0 || depositPaidRatio > 1) {
+            throw new IllegalArgumentException("Deposit paid ratio must be between 0 and 1");
+        }
+        if (additionalNeeds.length == 0 || additionalNeeds.length != additionalNeedsWeights.length) {
+            throw new IllegalArgumentException("Every additional need requires exactly one weight");
+        }
+        this.checkinFromEpochDay = checkinFrom.toEpochDay();
+        this.checkinToEpochDay = checkinTo.toEpochDay();
+        this.minStayNights = minStayNights;
+        this.maxStayNights = maxStayNights;
+        this.medianPrice = medianPrice;
+        this.priceSpread = priceSpread;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.depositPaidRatio = depositPaidRatio;
+        this.additionalNeeds = additionalNeeds.clone();
+        this.additionalNeedsWeights = additionalNeedsWeights.clone();
+    }
+
+    public static BookingDataProfile fromConfig() {
+        String[] needEntries = TestConfig.getProperty("generator.additional.needs", DEFAULT_ADDITIONAL_NEEDS).split(",");
+        String[] needs = new String[needEntries.length];
+        int[] weights = new int[needEntries.length];
+        for (int i = 0; i < needEntries.length; i++) {
+            String[] parts = needEntries[i].split(":");
+            needs[i] = parts[0].trim();
+            weights[i] = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+        }
+
+        return new BookingDataProfile(
+                LocalDate.parse(TestConfig.getProperty("generator.checkin.from", "2025-01-01")),
+                LocalDate.parse(TestConfig.getProperty("generator.checkin.to", "2026-12-31")),
+                TestConfig.getIntProperty("generator.stay.min.nights", 1),
+                TestConfig.getIntProperty("generator.stay.max.nights", 14),
+                TestConfig.getIntProperty("generator.price.median", 150),
+                TestConfig.getDoubleProperty("generator.price.spread", 0.6),
+                TestConfig.getIntProperty("generator.price.min", 20),
+                TestConfig.getIntProperty("generator.price.max", 5000),
+                TestConfig.getDoubleProperty("generator.deposit.paid.ratio", 0.7),
+                needs,
+                weights
+        );
+    }
+
+    public long getCheckinFromEpochDay() {
+        return checkinFromEpochDay;
+    }
+
+    public long getCheckinToEpochDay() {
+        return checkinToEpochDay;
+    }
+
+    public int getMinStayNights() {
+        return minStayNights;
+    }
+
+    public int getMaxStayNights() {
+        return maxStayNights;
+    }
+
+    public int getMedianPrice() {
+        return medianPrice;
+    }
+
+    public double getPriceSpread() {
+        return priceSpread;
+    }
+
+    public int getMinPrice() {
+        return minPrice;
+    }
+
+    public int getMaxPrice() {
+        return maxPrice;
+    }
+
+    public double getDepositPaidRatio() {
+        return depositPaidRatio;
+    }
+
+    public String[] getAdditionalNeeds() {
+        return additionalNeeds.clone();
+    }
+
+    public int[] getAdditionalNeedsWeights() {
+        return additionalNeedsWeights.clone();
+    }
+}
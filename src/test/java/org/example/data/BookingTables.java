@@ -0,0 +1,78 @@
+package org.example.data;
+
+import org.example.models.BookingDates;
+import org.example.models.BookingFieldUpdate;
+import org.example.models.BookingRequest;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class BookingTables {
+    private static final String DEFAULT_TOTAL_PRICE = "100";
+    private static final String DEFAULT_DEPOSIT_PAID = "true";
+    private static final String DEFAULT_ADDITIONAL_NEEDS = "Breakfast";
+
+    private final Map<Map<String, String>, BookingRequest> bookingRequests = new HashMap<>();
+    private final Map<Map<String, String>, BookingFieldUpdate> fieldUpdates = new HashMap<>();
+
+    public BookingRequest toBookingRequest(Map<String, String> row) {
+        return bookingRequests.computeIfAbsent(resolve(row), BookingTables::parseBookingRequest);
+    }
+
+    public BookingFieldUpdate toFieldUpdate(Map<String, String> row) {
+        return fieldUpdates.computeIfAbsent(resolve(row), BookingTables::parseFieldUpdate);
+    }
+
+    public static Date parseDate(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Booking date is missing");
+        }
+        try {
+            return Date.from(LocalDate.parse(value.trim()).atStartOfDay(ZoneOffset.UTC).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid booking date, expected yyyy-MM-dd: " + value, e);
+        }
+    }
+
+    private static BookingRequest parseBookingRequest(Map<String, String> row) {
+        return new BookingRequest(
+                row.get("firstname"),
+                row.get("lastname"),
+                parseInt("totalprice", valueOrDefault(row, "totalprice", DEFAULT_TOTAL_PRICE)),
+                Boolean.parseBoolean(valueOrDefault(row, "depositpaid", DEFAULT_DEPOSIT_PAID).trim()),
+                new BookingDates(parseDate(row.get("checkin")), parseDate(row.get("checkout"))),
+                valueOrDefault(row, "additionalneeds", DEFAULT_ADDITIONAL_NEEDS)
+        );
+    }
+
+    private static BookingFieldUpdate parseFieldUpdate(Map<String, String> row) {
+        if (!row.containsKey("field") || !row.containsKey("value")) {
+            throw new IllegalArgumentException("Field update tables need 'field' and 'value' columns, got " + row.keySet());
+        }
+        return new BookingFieldUpdate(row.get("field").trim(), row.get("value"));
+    }
+
+    private static Map<String, String> resolve(Map<String, String> row) {
+        TestDataNamespace namespace = TestDataNamespace.getInstance();
+        Map<String, String> resolved = new HashMap<>();
+        row.forEach((column, value) -> resolved.put(column, namespace.resolve(value)));
+        return resolved;
+    }
+
+    private static String valueOrDefault(Map<String, String> row, String column, String defaultValue) {
+        String value = row.get(column);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int parseInt(String column, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in column " + column + ": " + value, e);
+        }
+    }
+}
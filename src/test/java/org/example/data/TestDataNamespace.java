@@ -0,0 +1,78 @@
+package org.example.data;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class TestDataNamespace {
+    private static final Logger logger = LogManager.getLogger(TestDataNamespace.class);
+    private static final TestDataNamespace INSTANCE = new TestDataNamespace();
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{(run|date:([^}]*))}");
+
+    private final String configuredRunId = TestConfig.getProperty("namespace.run.id", "").trim();
+    private final long dateOffsetDays = TestConfig.getLongProperty("namespace.date.offset.days", 36525);
+    private final long dateSlotDays = TestConfig.getLongProperty("namespace.date.slot.days", 64);
+    private final int dateSlots = TestConfig.getIntProperty("namespace.date.slots", 4096);
+    private final AtomicInteger generations = new AtomicInteger();
+    private volatile String runId;
+    private volatile int runSlot;
+    private final AtomicInteger workers = new AtomicInteger();
+    private final ThreadLocal<Integer> worker = ThreadLocal.withInitial(workers::incrementAndGet);
+
+    private TestDataNamespace() {
+        rotate();
+    }
+
+    public static TestDataNamespace getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void rotate() {
+        int generation = generations.incrementAndGet();
+        String id = configuredRunId.isEmpty() ? generateRunId() : configuredRunId;
+        this.runId = generation == 1 ? id : id + "g" + generation;
+        this.runSlot = Math.floorMod(runId.hashCode(), dateSlots);
+        logger.info("Test data namespace for this run: {} (dates shifted into slot {} of {})", runId, runSlot, dateSlots);
+    }
+
+    public String resolve(String text) {
+        if (text == null || text.indexOf('$') < 0) {
+            return text;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            String replacement = matcher.group(2) == null ? token() : shift(matcher.group(2)).toString();
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    public String token() {
+        return runId + "w" + worker.get();
+    }
+
+    private LocalDate shift(String date) {
+        try {
+            long slot = (runSlot + worker.get()) % dateSlots;
+            return LocalDate.parse(date.trim()).plusDays(dateOffsetDays + slot * dateSlotDays);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date placeholder ${date:" + date + "}, expected yyyy-MM-dd", e);
+        }
+    }
+
+    private static String generateRunId() {
+        String seconds = Long.toString(System.currentTimeMillis() / 1000, 36);
+        String suffix = Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36);
+        return ("r" + seconds + suffix).toLowerCase(Locale.ROOT);
+    }
+}
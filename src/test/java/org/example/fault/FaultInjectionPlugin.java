@@ -0,0 +1,37 @@
+package org.example.fault;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import org.example.config.TestConfig;
+
+import java.time.Duration;
+
+public class FaultInjectionPlugin implements ConcurrentEventListener {
+    private final boolean enabled = TestConfig.getBooleanProperty("fault.enabled", false);
+    private FaultInjectionProxy proxy;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!enabled) {
+            return;
+        }
+        publisher.registerHandlerFor(TestRunStarted.class, event -> startProxy());
+        publisher.registerHandlerFor(TestRunFinished.class, event -> stopProxy());
+    }
+
+    private void startProxy() {
+        proxy = new FaultInjectionProxy(TestConfig.getConfiguredBaseUrl(), FaultPlan.fromConfig(),
+                TestConfig.getLongProperty("fault.seed", 42),
+                Duration.ofSeconds(TestConfig.getLongProperty("fault.upstream.timeout.seconds", 30)));
+        TestConfig.setBaseUrlOverride(proxy.start(TestConfig.getIntProperty("fault.port", 0)));
+    }
+
+    private void stopProxy() {
+        if (proxy != null) {
+            proxy.stop();
+            TestConfig.setBaseUrlOverride(null);
+        }
+    }
+}
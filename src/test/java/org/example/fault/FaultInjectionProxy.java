@@ -0,0 +1,237 @@
+package org.example.fault;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.http.EndpointTemplates;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class FaultInjectionProxy {
+    private static final Logger logger = LogManager.getLogger(FaultInjectionProxy.class);
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+    private static final int CHUNK_BYTES = 1024;
+    private static final Set<String> REQUEST_HEADERS_NOT_FORWARDED =
+            Set.of("connection", "content-length", "expect", "host", "upgrade", "keep-alive", "transfer-encoding");
+    private static final Set<String> RESPONSE_HEADERS_NOT_FORWARDED =
+            Set.of("connection", "content-length", "keep-alive", "transfer-encoding");
+
+    private final String target;
+    private final FaultPlan plan;
+    private final long seed;
+    private final Duration upstreamTimeout;
+    private final Map<String, AtomicLong> requestCounters = new ConcurrentHashMap<>();
+    private final Map<String, InjectedFaults> injected = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpClient client;
+
+    public FaultInjectionProxy(String target, FaultPlan plan, long seed, Duration upstreamTimeout) {
+        this.target = target.endsWith("/") ? target.substring(0, target.length() - 1) : target;
+        this.plan = plan;
+        this.seed = seed;
+        this.upstreamTimeout = upstreamTimeout;
+    }
+
+    public synchronized String start(int port) {
+        if (server != null) {
+            throw new IllegalStateException("Fault injection proxy is already running");
+        }
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fault-proxy-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(upstreamTimeout)
+                .build();
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new RuntimeException("Failed to start fault injection proxy on port " + port, e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        logger.info("Fault injection proxy {} -> {} (seed {}; {})", url, target, seed, plan);
+        return url;
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        getInjectedFaults().forEach((endpoint, faults) -> logger.info(
+                "Injected faults for {}: {} request(s), {} ms added latency, {} error(s), {} reset(s), {} throttled",
+                endpoint, faults.requests.sum(), faults.latencyMillis.sum(), faults.errors.sum(),
+                faults.resets.sum(), faults.throttled.sum()));
+    }
+
+    public Map<String, InjectedFaults> getInjectedFaults() {
+        return new TreeMap<>(injected);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        URI uri = exchange.getRequestURI();
+        String endpoint = EndpointTemplates.of(method, uri.getRawPath());
+        FaultSpec spec = plan.specFor(endpoint);
+        SplittableRandom random = randomFor(endpoint);
+        long latencyMillis = spec.getLatency().sampleMillis(random);
+        boolean reset = random.nextDouble() < spec.getResetRate();
+        boolean error = !reset && random.nextDouble() < spec.getErrorRate();
+
+        InjectedFaults faults = injected.computeIfAbsent(endpoint, key -> new InjectedFaults());
+        faults.requests.increment();
+        faults.latencyMillis.add(latencyMillis);
+        try {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            Thread.sleep(latencyMillis);
+            if (reset) {
+                faults.resets.increment();
+                logger.debug("Resetting connection for {}", endpoint);
+                exchange.close();
+                return;
+            }
+            if (error) {
+                faults.errors.increment();
+                logger.debug("Injecting status {} for {}", spec.getErrorStatus(), endpoint);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                respond(exchange, spec.getErrorStatus(), ("Injected fault " + spec.getErrorStatus())
+                        .getBytes(StandardCharsets.UTF_8), spec, faults);
+                return;
+            }
+            HttpResponse<byte[]> upstream = client.send(upstreamRequest(exchange, uri, requestBody),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            Headers responseHeaders = exchange.getResponseHeaders();
+            upstream.headers().map().forEach((name, values) -> {
+                if (!RESPONSE_HEADERS_NOT_FORWARDED.contains(name.toLowerCase(Locale.ROOT))) {
+                    responseHeaders.put(name, values);
+                }
+            });
+            respond(exchange, upstream.statusCode(), upstream.body(), spec, faults);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } catch (IOException e) {
+            logger.warn("Fault injection proxy failed to relay {}: {}", endpoint, e.getMessage());
+            exchange.close();
+        }
+    }
+
+    private HttpRequest upstreamRequest(HttpExchange exchange, URI uri, byte[] body) {
+        String pathAndQuery = uri.getRawPath() + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target + pathAndQuery))
+                .timeout(upstreamTimeout)
+                .method(exchange.getRequestMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            if (!REQUEST_HEADERS_NOT_FORWARDED.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                header.getValue().forEach(value -> request.header(header.getKey(), value));
+            }
+        }
+        return request.build();
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body, FaultSpec spec, InjectedFaults faults)
+            throws IOException, InterruptedException {
+        boolean emptyBody = body.length == 0 || status == 204 || status == 304 || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, emptyBody ? -1 : body.length);
+        if (emptyBody) {
+            exchange.close();
+            return;
+        }
+        try (OutputStream out = exchange.getResponseBody()) {
+            Thread.sleep(spec.getBodyDelayMs());
+            long bytesPerSecond = spec.getBandwidthBytesPerSecond();
+            if (bytesPerSecond == 0) {
+                out.write(body);
+                return;
+            }
+            faults.throttled.increment();
+            long started = System.nanoTime();
+            for (int offset = 0; offset < body.length; offset += CHUNK_BYTES) {
+                int length = Math.min(CHUNK_BYTES, body.length - offset);
+                out.write(body, offset, length);
+                out.flush();
+                long dueNanos = (offset + length) * 1_000_000_000L / bytesPerSecond;
+                long aheadMillis = (dueNanos - (System.nanoTime() - started)) / 1_000_000;
+                if (aheadMillis > 0) {
+                    Thread.sleep(aheadMillis);
+                }
+            }
+        }
+    }
+
+    private SplittableRandom randomFor(String endpoint) {
+        long sequence = requestCounters.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+        long endpointSeed = mix64(seed ^ mix64(endpoint.hashCode()));
+        return new SplittableRandom(mix64(endpointSeed + sequence * SEED_MIX));
+    }
+
+    private static long mix64(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static final class InjectedFaults {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder latencyMillis = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder resets = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getLatencyMillis() {
+            return latencyMillis.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getResets() {
+            return resets.sum();
+        }
+
+        public long getThrottled() {
+            return throttled.sum();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.fault;
+
+import org.example.config.TestConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class FaultPlan {
+    private final FaultSpec defaults;
+    private final Map<String, FaultSpec> endpointSpecs;
+
+    public FaultPlan(FaultSpec defaults, Map<String, FaultSpec> endpointSpecs) {
+        this.defaults = defaults;
+        this.endpointSpecs = new LinkedHashMap<>(endpointSpecs);
+    }
+
+    public static FaultPlan fromConfig() {
+        FaultSpec defaults = FaultSpec.fromConfig("fault.", FaultSpec.none());
+        Map<String, FaultSpec> endpointSpecs = new LinkedHashMap<>();
+        for (String rule : TestConfig.getProperty("fault.rules", "").split(",")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            String prefix = "fault.rule." + rule.trim() + ".";
+            String endpoint = TestConfig.getProperty(prefix + "endpoint", null);
+            if (endpoint == null) {
+                throw new IllegalArgumentException("Fault rule " + rule.trim() + " has no " + prefix + "endpoint");
+            }
+            endpointSpecs.put(endpoint.trim(), FaultSpec.fromConfig(prefix, defaults));
+        }
+        return new FaultPlan(defaults, endpointSpecs);
+    }
+
+    public FaultSpec specFor(String endpoint) {
+        return endpointSpecs.getOrDefault(endpoint, defaults);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder("default: ").append(defaults);
+        endpointSpecs.forEach((endpoint, spec) -> description.append("; ").append(endpoint).append(": ").append(spec));
+        return description.toString();
+    }
+}
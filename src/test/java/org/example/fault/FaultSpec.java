@@ -0,0 +1,77 @@
+package org.example.fault;
+
+import org.example.config.TestConfig;
+
+public final class FaultSpec {
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final double resetRate;
+    private final long bodyDelayMs;
+    private final long bandwidthBytesPerSecond;
+
+    public FaultSpec(LatencyDistribution latency, double errorRate, int errorStatus, double resetRate,
+                     long bodyDelayMs, long bandwidthBytesPerSecond) {
+        if (errorRate < 0 || errorRate > 1 || resetRate < 0 || resetRate > 1) {
+            throw new IllegalArgumentException("Error and reset rates must be between 0 and 1");
+        }
+        if (errorStatus < 100 || errorStatus > 599) {
+            throw new IllegalArgumentException("Error status must be a valid HTTP status: " + errorStatus);
+        }
+        if (bodyDelayMs < 0 || bandwidthBytesPerSecond < 0) {
+            throw new IllegalArgumentException("Body delay and bandwidth cannot be negative");
+        }
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.resetRate = resetRate;
+        this.bodyDelayMs = bodyDelayMs;
+        this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+    }
+
+    public static FaultSpec fromConfig(String prefix, FaultSpec defaults) {
+        String latency = TestConfig.getProperty(prefix + "latency", null);
+        return new FaultSpec(
+                latency == null ? defaults.latency : LatencyDistribution.parse(latency),
+                TestConfig.getDoubleProperty(prefix + "error.rate", defaults.errorRate),
+                TestConfig.getIntProperty(prefix + "error.status", defaults.errorStatus),
+                TestConfig.getDoubleProperty(prefix + "reset.rate", defaults.resetRate),
+                TestConfig.getLongProperty(prefix + "body.delay.ms", defaults.bodyDelayMs),
+                TestConfig.getLongProperty(prefix + "bandwidth.bytes.per.second", defaults.bandwidthBytesPerSecond));
+    }
+
+    public static FaultSpec none() {
+        return new FaultSpec(LatencyDistribution.NONE, 0, 503, 0, 0, 0);
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public double getResetRate() {
+        return resetRate;
+    }
+
+    public long getBodyDelayMs() {
+        return bodyDelayMs;
+    }
+
+    public long getBandwidthBytesPerSecond() {
+        return bandwidthBytesPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latency + ", error.rate=" + errorRate + ", error.status=" + errorStatus
+                + ", reset.rate=" + resetRate + ", body.delay.ms=" + bodyDelayMs
+                + ", bandwidth.bytes.per.second=" + bandwidthBytesPerSecond;
+    }
+}
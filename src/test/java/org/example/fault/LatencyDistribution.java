@@ -0,0 +1,84 @@
+package org.example.fault;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+public final class LatencyDistribution {
+    public static final LatencyDistribution NONE = new LatencyDistribution("none", 0, 0);
+
+    private final String kind;
+    private final double first;
+    private final double second;
+
+    private LatencyDistribution(String kind, double first, double second) {
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Latency parameters cannot be negative");
+        }
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+    }
+
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        try {
+            switch (parts[0]) {
+                case "":
+                case "none":
+                    return NONE;
+                case "fixed":
+                    return new LatencyDistribution("fixed", Double.parseDouble(parts[1]), 0);
+                case "uniform":
+                    double min = Double.parseDouble(parts[1]);
+                    double max = Double.parseDouble(parts[2]);
+                    if (max < min) {
+                        throw new IllegalArgumentException("Uniform latency needs min <= max: " + spec);
+                    }
+                    return new LatencyDistribution("uniform", min, max);
+                case "exponential":
+                    return new LatencyDistribution("exponential", Double.parseDouble(parts[1]), 0);
+                case "lognormal":
+                    return new LatencyDistribution("lognormal", Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                default:
+                    throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed latency distribution: " + spec, e);
+        }
+    }
+
+    public long sampleMillis(SplittableRandom random) {
+        switch (kind) {
+            case "fixed":
+                return Math.round(first);
+            case "uniform":
+                return Math.round(first + random.nextDouble() * (second - first));
+            case "exponential":
+                return Math.round(-first * Math.log(1 - random.nextDouble()));
+            case "lognormal":
+                return Math.round(first * Math.exp(second * gaussian(random)));
+            default:
+                return 0;
+        }
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case "fixed":
+            case "exponential":
+                return kind + ":" + first;
+            case "uniform":
+            case "lognormal":
+                return kind + ":" + first + ":" + second;
+            default:
+                return kind;
+        }
+    }
+}
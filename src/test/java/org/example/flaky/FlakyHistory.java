@@ -0,0 +1,104 @@
+package org.example.flaky;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.cucumber.plugin.event.TestCase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.json.JsonCodecs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public class FlakyHistory {
+    private static final Logger logger = LogManager.getLogger(FlakyHistory.class);
+
+    static final char PASSED = 'P';
+    static final char FAILED = 'X';
+    static final char FLAKY = 'F';
+
+    @JsonProperty("outcomes")
+    private final Map<String, String> outcomes;
+
+    @JsonCreator
+    public FlakyHistory(@JsonProperty("outcomes") Map<String, String> outcomes) {
+        this.outcomes = outcomes != null ? new TreeMap<>(outcomes) : new TreeMap<>();
+    }
+
+    public static FlakyHistory load() {
+        Path file = historyFile();
+        if (!Files.exists(file)) {
+            return new FlakyHistory(null);
+        }
+        try {
+            return JsonCodecs.FLAKY_HISTORY.read(Files.readAllBytes(file));
+        } catch (Exception e) {
+            logger.warn("Ignoring unreadable flaky scenario history {}: {}", file, e.getMessage());
+            return new FlakyHistory(null);
+        }
+    }
+
+    public void save() {
+        Path file = historyFile();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, JsonCodecs.FLAKY_HISTORY.write(this));
+        } catch (IOException e) {
+            logger.error("Failed to save flaky scenario history {}: {}", file, e.getMessage());
+        }
+    }
+
+    public static String keyOf(TestCase testCase) {
+        String uri = testCase.getUri().toString();
+        int features = uri.indexOf("features/");
+        return (features >= 0 ? uri.substring(features) : uri) + ":" + testCase.getName();
+    }
+
+    public boolean isQuarantined(String key) {
+        String recent = outcomes.getOrDefault(key, "");
+        return recent.chars().filter(outcome -> outcome == FLAKY).count() >= threshold();
+    }
+
+    @JsonIgnore
+    public Set<String> getQuarantined() {
+        return outcomes.keySet().stream().filter(this::isQuarantined).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public String getOutcomes(String key) {
+        return outcomes.getOrDefault(key, "");
+    }
+
+    void append(String key, char outcome) {
+        String updated = outcomes.getOrDefault(key, "") + outcome;
+        int window = TestConfig.getIntProperty("flaky.window", 20);
+        outcomes.put(key, updated.length() > window ? updated.substring(updated.length() - window) : updated);
+    }
+
+    boolean markLastFailureFlaky(String key) {
+        String recent = outcomes.get(key);
+        if (recent == null || recent.isEmpty() || recent.charAt(recent.length() - 1) != FAILED) {
+            return false;
+        }
+        outcomes.put(key, recent.substring(0, recent.length() - 1) + FLAKY);
+        return true;
+    }
+
+    private static int threshold() {
+        return TestConfig.getIntProperty("flaky.threshold", 3);
+    }
+
+    private static Path historyFile() {
+        return Paths.get(TestConfig.getProperty("flaky.file", ".perf-history/flaky-scenarios.json"));
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.flaky;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class FlakyScenarioPlugin implements ConcurrentEventListener {
+    private static final Logger logger = LogManager.getLogger(FlakyScenarioPlugin.class);
+    private static final String RERUN_PASS = "rerun";
+
+    private final boolean rerunPass;
+    private final Map<String, Boolean> passedByScenario = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> failedLocations = new ConcurrentHashMap<>();
+
+    public FlakyScenarioPlugin() {
+        this.rerunPass = false;
+    }
+
+    public FlakyScenarioPlugin(String pass) {
+        if (!RERUN_PASS.equals(pass)) {
+            throw new IllegalArgumentException("Unknown pass '" + pass + "', expected '" + RERUN_PASS + "'");
+        }
+        this.rerunPass = true;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> onTestRunFinished());
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Status status = event.getResult().getStatus();
+        if (status == Status.SKIPPED) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        String key = FlakyHistory.keyOf(testCase);
+        passedByScenario.merge(key, status == Status.PASSED, Boolean::logicalAnd);
+        if (status != Status.PASSED) {
+            failedLocations.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>())
+                    .add(relativeUri(testCase) + ":" + testCase.getLocation().getLine());
+        }
+    }
+
+    private void onTestRunFinished() {
+        FlakyHistory history = FlakyHistory.load();
+        if (rerunPass) {
+            recordRerun(history);
+        } else {
+            recordFirstPass(history);
+        }
+        history.save();
+        history.getQuarantined().forEach(key -> logger.info("Quarantined flaky scenario: {} (recent outcomes {})",
+                key, history.getOutcomes(key)));
+    }
+
+    private void recordFirstPass(FlakyHistory history) {
+        List<String> rerun = new ArrayList<>();
+        List<String> quarantined = new ArrayList<>();
+        passedByScenario.forEach((key, passed) -> {
+            if (passed) {
+                history.append(key, FlakyHistory.PASSED);
+                return;
+            }
+            if (history.isQuarantined(key)) {
+                logger.warn("Quarantined scenario failed, reporting it separately: {}", key);
+                quarantined.add(String.join(" ", failedLocations.get(key)) + " " + key + " (recent outcomes " + history.getOutcomes(key) + ")");
+            } else {
+                rerun.addAll(failedLocations.get(key));
+            }
+            history.append(key, FlakyHistory.FAILED);
+        });
+        write(TestConfig.getProperty("rerun.file", "target/cucumber-reports/rerun.txt"), String.join(" ", rerun));
+        write(TestConfig.getProperty("quarantine.file", "target/cucumber-reports/quarantine.txt"), String.join("\n", quarantined));
+        logger.info("{} failed scenarios written to the rerun file, {} quarantined failures reported separately",
+                rerun.size(), quarantined.size());
+    }
+
+    private void recordRerun(FlakyHistory history) {
+        passedByScenario.forEach((key, passed) -> {
+            if (passed && history.markLastFailureFlaky(key)) {
+                logger.warn("Scenario failed and then passed on rerun, marking it flaky: {}", key);
+            }
+        });
+    }
+
+    private static String relativeUri(TestCase testCase) {
+        Path working = Paths.get("").toAbsolutePath();
+        try {
+            return working.relativize(Paths.get(testCase.getUri())).toString();
+        } catch (Exception e) {
+            return testCase.getUri().toString();
+        }
+    }
+
+    private static void write(String fileName, String content) {
+        Path file = Paths.get(fileName);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.error("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+}
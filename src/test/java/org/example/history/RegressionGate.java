@@ -0,0 +1,97 @@
+package org.example.history;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.metrics.RollingLatencyWindow;
+import org.example.stats.MannWhitneyU;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class RegressionGate {
+    private static final Logger logger = LogManager.getLogger(RegressionGate.class);
+
+    private final double p95Threshold;
+    private final double alpha;
+    private final int minSamples;
+    private final double minDeltaMillis;
+    private final int minBaselineRuns;
+
+    public RegressionGate(double p95Threshold, double alpha, int minSamples, double minDeltaMillis, int minBaselineRuns) {
+        this.p95Threshold = p95Threshold;
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+        this.minDeltaMillis = minDeltaMillis;
+        this.minBaselineRuns = minBaselineRuns;
+    }
+
+    public static RegressionGate fromConfig() {
+        return new RegressionGate(
+                TestConfig.getDoubleProperty("history.p95.threshold", 0.2),
+                TestConfig.getDoubleProperty("history.alpha", 0.01),
+                TestConfig.getIntProperty("history.min.samples", 5),
+                TestConfig.getDoubleProperty("history.min.delta.ms", 5),
+                TestConfig.getIntProperty("history.baseline.min.runs", 3));
+    }
+
+    public List<String> evaluate(RunRecord current, List<RunRecord> baseline) {
+        List<String> regressions = new ArrayList<>();
+        if (baseline.size() < minBaselineRuns) {
+            logger.info("Only {} baseline runs available, {} needed before gating on regressions",
+                    baseline.size(), minBaselineRuns);
+            return regressions;
+        }
+        for (Map.Entry<String, SeriesStats> entry : current.getSeries().entrySet()) {
+            long[] currentSamples = entry.getValue().getSamplesNanos();
+            long[] baselineSamples = pooledSamples(entry.getKey(), baseline);
+            if (currentSamples.length < minSamples || baselineSamples.length < minSamples) {
+                continue;
+            }
+            double currentP95 = RollingLatencyWindow.percentileMillis(currentSamples, 95);
+            double baselineP95 = RollingLatencyWindow.percentileMillis(baselineSamples, 95);
+            if (currentP95 <= baselineP95 * (1 + p95Threshold) || currentP95 - baselineP95 < minDeltaMillis) {
+                continue;
+            }
+            double pValue = MannWhitneyU.pValueGreater(toDoubles(currentSamples), toDoubles(baselineSamples));
+            if (pValue < alpha) {
+                regressions.add(String.format(Locale.ROOT,
+                        "%s: p95 %.1f ms vs baseline %.1f ms (+%.0f%%, Mann-Whitney p=%.4f, n=%d vs %d)",
+                        entry.getKey(), currentP95, baselineP95, (currentP95 / baselineP95 - 1) * 100,
+                        pValue, currentSamples.length, baselineSamples.length));
+            } else {
+                logger.debug("{} p95 rose to {} ms from {} ms but is not significant (p={})",
+                        entry.getKey(), currentP95, baselineP95, pValue);
+            }
+        }
+        return regressions;
+    }
+
+    private static long[] pooledSamples(String series, List<RunRecord> baseline) {
+        int total = 0;
+        for (RunRecord run : baseline) {
+            SeriesStats stats = run.getSeries().get(series);
+            total += stats != null ? stats.getSamplesNanos().length : 0;
+        }
+        long[] pooled = new long[total];
+        int offset = 0;
+        for (RunRecord run : baseline) {
+            SeriesStats stats = run.getSeries().get(series);
+            if (stats != null) {
+                System.arraycopy(stats.getSamplesNanos(), 0, pooled, offset, stats.getSamplesNanos().length);
+                offset += stats.getSamplesNanos().length;
+            }
+        }
+        return pooled;
+    }
+
+    private static double[] toDoubles(long[] values) {
+        double[] doubles = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            doubles[i] = values[i];
+        }
+        return doubles;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.history;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.flaky.FlakyHistory;
+import org.example.http.HttpExchange;
+import org.example.http.HttpExchangeFilter;
+import org.example.http.HttpExchangeListener;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class RunHistoryPlugin implements ConcurrentEventListener, HttpExchangeListener {
+    private static final Logger logger = LogManager.getLogger(RunHistoryPlugin.class);
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static volatile List<String> lastRegressions = List.of();
+
+    private final Map<String, SeriesRecorder> recorders = new ConcurrentHashMap<>();
+    private final int maxSamples = TestConfig.getIntProperty("history.max.samples", 100);
+    private final boolean enabled = TestConfig.getBooleanProperty("history.enabled", true);
+    private Instant runStarted;
+    private Set<String> quarantined = Set.of();
+
+    public static List<String> getLastRegressions() {
+        return lastRegressions;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!enabled) {
+            return;
+        }
+        publisher.registerHandlerFor(TestRunStarted.class, this::onTestRunStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> onTestRunFinished());
+    }
+
+    private void onTestRunStarted(TestRunStarted event) {
+        runStarted = event.getInstant();
+        lastRegressions = List.of();
+        quarantined = FlakyHistory.load().getQuarantined();
+        HttpExchangeFilter.addListener(this);
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep && event.getResult().getStatus() == Status.PASSED
+                && !quarantined.contains(FlakyHistory.keyOf(event.getTestCase()))) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            record("step:" + step.getPattern(), event.getResult().getDuration().toNanos());
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        if (event.getResult().getStatus() == Status.PASSED && !quarantined.contains(FlakyHistory.keyOf(event.getTestCase()))) {
+            record("scenario:" + event.getTestCase().getName(), event.getResult().getDuration().toNanos());
+        }
+    }
+
+    @Override
+    public void onExchange(HttpExchange exchange) {
+        if (exchange.getFailure() == null) {
+            record("endpoint:" + exchange.getEndpoint(), exchange.getDurationNanos());
+        }
+    }
+
+    private void record(String series, long durationNanos) {
+        recorders.computeIfAbsent(series, key -> new SeriesRecorder(maxSamples, key.hashCode())).record(durationNanos);
+    }
+
+    private void onTestRunFinished() {
+        HttpExchangeFilter.removeListener(this);
+        if (recorders.isEmpty()) {
+            return;
+        }
+        Map<String, SeriesStats> series = new TreeMap<>();
+        recorders.forEach((key, recorder) -> series.put(key, recorder.toStats()));
+
+        String environment = RunHistoryStore.resolveEnvironment();
+        RunRecord current = new RunRecord(RUN_ID_FORMAT.format(runStarted), resolveCommit(), environment,
+                runStarted.toString(), series);
+        RunHistoryStore store = RunHistoryStore.fromConfig(environment);
+        List<RunRecord> baseline = store.loadRecent(TestConfig.getIntProperty("history.baseline.runs", 10));
+        store.save(current);
+
+        List<String> regressions = RegressionGate.fromConfig().evaluate(current, baseline);
+        regressions.forEach(regression -> logger.warn("Performance regression against the last {} runs: {}",
+                baseline.size(), regression));
+        lastRegressions = List.copyOf(regressions);
+    }
+
+    private static String resolveCommit() {
+        String commit = TestConfig.getProperty("history.commit", "");
+        if (!commit.isBlank()) {
+            return commit;
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0 && line != null) {
+                    return line.trim();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.debug("Could not resolve git commit: {}", e.getMessage());
+        }
+        return "unknown";
+    }
+}
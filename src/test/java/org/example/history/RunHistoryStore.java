@@ -0,0 +1,105 @@
+package org.example.history;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.json.JsonCodecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class RunHistoryStore {
+    private static final Logger logger = LogManager.getLogger(RunHistoryStore.class);
+    private static final String RUN_FILE_SUFFIX = ".json";
+
+    private final Path runsDir;
+    private final int maxRuns;
+
+    public RunHistoryStore(Path root, String environment, int maxRuns) {
+        this.runsDir = root.resolve(sanitize(environment));
+        this.maxRuns = maxRuns;
+    }
+
+    public static RunHistoryStore fromConfig(String environment) {
+        return new RunHistoryStore(
+                Paths.get(TestConfig.getProperty("history.dir", ".perf-history")),
+                environment,
+                TestConfig.getIntProperty("history.max.runs", 100));
+    }
+
+    public static String resolveEnvironment() {
+        String environment = TestConfig.getProperty("history.environment", "");
+        if (!environment.isBlank()) {
+            return environment;
+        }
+        try {
+            String host = URI.create(TestConfig.getConfiguredBaseUrl()).getHost();
+            String hostEnvironment = host != null ? host : "default";
+            return TestConfig.getBooleanProperty("fault.enabled", false) ? hostEnvironment + "-faults" : hostEnvironment;
+        } catch (Exception e) {
+            return "default";
+        }
+    }
+
+    public void save(RunRecord record) {
+        try {
+            Files.createDirectories(runsDir);
+            Path file = runsDir.resolve(record.getRunId() + "-" + sanitize(record.getCommit()) + RUN_FILE_SUFFIX);
+            Files.write(file, JsonCodecs.RUN_RECORD.write(record));
+            logger.info("Saved run history to {}", file);
+            prune();
+        } catch (IOException e) {
+            logger.error("Failed to save run history to {}: {}", runsDir, e.getMessage());
+        }
+    }
+
+    public List<RunRecord> loadRecent(int runs) {
+        List<RunRecord> records = new ArrayList<>();
+        for (Path file : listRunFilesNewestFirst()) {
+            if (records.size() >= runs) {
+                break;
+            }
+            try {
+                records.add(JsonCodecs.RUN_RECORD.read(Files.readAllBytes(file)));
+            } catch (Exception e) {
+                logger.warn("Skipping unreadable run history file {}: {}", file, e.getMessage());
+            }
+        }
+        return records;
+    }
+
+    private void prune() throws IOException {
+        List<Path> files = listRunFilesNewestFirst();
+        for (Path stale : files.subList(Math.min(maxRuns, files.size()), files.size())) {
+            Files.deleteIfExists(stale);
+            logger.debug("Pruned run history file {}", stale);
+        }
+    }
+
+    private List<Path> listRunFilesNewestFirst() {
+        if (!Files.isDirectory(runsDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(runsDir)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(RUN_FILE_SUFFIX))
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.error("Failed to list run history in {}: {}", runsDir, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static String sanitize(String value) {
+        return value == null || value.isBlank() ? "unknown" : value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.history;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class RunRecord {
+    @JsonProperty("runId")
+    private final String runId;
+
+    @JsonProperty("commit")
+    private final String commit;
+
+    @JsonProperty("environment")
+    private final String environment;
+
+    @JsonProperty("startedAt")
+    private final String startedAt;
+
+    @JsonProperty("series")
+    private final Map<String, SeriesStats> series;
+
+    @JsonCreator
+    public RunRecord(
+            @JsonProperty("runId") String runId,
+            @JsonProperty("commit") String commit,
+            @JsonProperty("environment") String environment,
+            @JsonProperty("startedAt") String startedAt,
+            @JsonProperty("series") Map<String, SeriesStats> series) {
+        this.runId = runId;
+        this.commit = commit;
+        this.environment = environment;
+        this.startedAt = startedAt;
+        this.series = series != null ? new TreeMap<>(series) : new TreeMap<>();
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public String getStartedAt() {
+        return startedAt;
+    }
+
+    public Map<String, SeriesStats> getSeries() {
+        return series;
+    }
+}
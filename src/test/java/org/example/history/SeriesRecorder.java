@@ -0,0 +1,44 @@
+package org.example.history;
+
+import org.example.metrics.RollingLatencyWindow;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+class SeriesRecorder {
+    private final long[] reservoir;
+    private final SplittableRandom random;
+    private long count;
+    private long sumNanos;
+    private long maxNanos;
+
+    SeriesRecorder(int maxSamples, long seed) {
+        this.reservoir = new long[maxSamples];
+        this.random = new SplittableRandom(seed);
+    }
+
+    synchronized void record(long durationNanos) {
+        if (count < reservoir.length) {
+            reservoir[(int) count] = durationNanos;
+        } else {
+            long slot = random.nextLong(count + 1);
+            if (slot < reservoir.length) {
+                reservoir[(int) slot] = durationNanos;
+            }
+        }
+        count++;
+        sumNanos += durationNanos;
+        maxNanos = Math.max(maxNanos, durationNanos);
+    }
+
+    synchronized SeriesStats toStats() {
+        long[] samples = Arrays.copyOf(reservoir, (int) Math.min(count, reservoir.length));
+        return new SeriesStats(
+                count,
+                count == 0 ? 0 : sumNanos / (double) count / 1_000_000.0,
+                RollingLatencyWindow.percentileMillis(samples, 50),
+                RollingLatencyWindow.percentileMillis(samples, 95),
+                maxNanos / 1_000_000.0,
+                samples);
+    }
+}
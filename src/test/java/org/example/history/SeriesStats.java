@@ -0,0 +1,64 @@
+package org.example.history;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class SeriesStats {
+    @JsonProperty("count")
+    private final long count;
+
+    @JsonProperty("meanMillis")
+    private final double meanMillis;
+
+    @JsonProperty("p50Millis")
+    private final double p50Millis;
+
+    @JsonProperty("p95Millis")
+    private final double p95Millis;
+
+    @JsonProperty("maxMillis")
+    private final double maxMillis;
+
+    @JsonProperty("samplesNanos")
+    private final long[] samplesNanos;
+
+    @JsonCreator
+    public SeriesStats(
+            @JsonProperty("count") long count,
+            @JsonProperty("meanMillis") double meanMillis,
+            @JsonProperty("p50Millis") double p50Millis,
+            @JsonProperty("p95Millis") double p95Millis,
+            @JsonProperty("maxMillis") double maxMillis,
+            @JsonProperty("samplesNanos") long[] samplesNanos) {
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.maxMillis = maxMillis;
+        this.samplesNanos = samplesNanos != null ? samplesNanos : new long[0];
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public long[] getSamplesNanos() {
+        return samplesNanos;
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.metrics.MBeans;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class AdaptiveConcurrencyLimiter implements Filter, ConcurrencyLimiterMXBean {
+    private static final Logger logger = LogManager.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final boolean enabled = TestConfig.getBooleanProperty("limiter.enabled", true);
+    private final int minLimit = TestConfig.getIntProperty("limiter.min", 1);
+    private final int maxLimit = TestConfig.getIntProperty("limiter.max", 256);
+    private final double latencyTolerance = TestConfig.getDoubleProperty("limiter.latency.tolerance", 2.0);
+    private final double backoffRatio = TestConfig.getDoubleProperty("limiter.backoff.ratio", 0.9);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final int initialLimit = TestConfig.getIntProperty("limiter.initial", 16);
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private double baselineRttNanos;
+    private long lastDecreaseNanos;
+    private long limitIncreases;
+    private long limitDecreases;
+    private int reportedLimit;
+
+    private AdaptiveConcurrencyLimiter() {
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.reportedLimit = (int) limit;
+    }
+
+    public static AdaptiveConcurrencyLimiter create() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter();
+        MBeans.register(limiter, "type=ConcurrencyLimiter");
+        return limiter;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!enabled) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        acquire();
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            int status = response.getStatusCode();
+            failed = status == 429 || status >= 500;
+            return response;
+        } finally {
+            release(System.nanoTime() - startNanos, failed);
+        }
+    }
+
+    private void acquire() {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (inFlight >= (int) limit) {
+                    permitReleased.await();
+                }
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a concurrency permit", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long rttNanos, boolean failed) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= limit / 2;
+            inFlight--;
+            updateBaseline(rttNanos);
+            if (failed) {
+                decrease("error response");
+            } else if (saturated && rttNanos > baselineRttNanos * latencyTolerance) {
+                decrease("latency above baseline");
+            } else if ((saturated || limit < initialLimit) && limit < maxLimit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+                limitIncreases++;
+            }
+            reportLimitChange();
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateBaseline(long rttNanos) {
+        if (baselineRttNanos == 0 || rttNanos < baselineRttNanos) {
+            baselineRttNanos = rttNanos;
+        } else {
+            baselineRttNanos += (rttNanos - baselineRttNanos) * BASELINE_DRIFT;
+        }
+    }
+
+    private void decrease(String reason) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < baselineRttNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        double previous = limit;
+        limit = Math.max(minLimit, limit * backoffRatio);
+        if (limit < previous) {
+            limitDecreases++;
+            logger.debug("Concurrency limit decreased from {} to {} ({})", previous, limit, reason);
+        }
+    }
+
+    private void reportLimitChange() {
+        int current = (int) limit;
+        if (current != reportedLimit) {
+            logger.info("Concurrency limit changed from {} to {} (in flight: {}, baseline RTT: {} ms)",
+                    reportedLimit, current, inFlight, String.format("%.1f", baselineRttNanos / 1_000_000.0));
+            reportedLimit = current;
+        }
+    }
+
+    @Override
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public double getBaselineRttMillis() {
+        lock.lock();
+        try {
+            return baselineRttNanos / 1_000_000.0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLimitIncreases() {
+        lock.lock();
+        try {
+            return limitIncreases;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLimitDecreases() {
+        lock.lock();
+        try {
+            return limitDecreases;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
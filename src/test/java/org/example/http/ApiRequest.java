@@ -0,0 +1,41 @@
+package org.example.http;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.specification.RequestSpecification;
+import org.example.config.TestConfig;
+import org.example.jfr.JfrHttpFilter;
+import org.example.metrics.RunMetrics;
+
+import java.util.List;
+
+public final class ApiRequest {
+    private static final HttpExchangeFilter EXCHANGE_FILTER = new HttpExchangeFilter();
+    private static final JfrHttpFilter JFR_FILTER = new JfrHttpFilter();
+    private static final AdaptiveConcurrencyLimiter CONCURRENCY_LIMITER = AdaptiveConcurrencyLimiter.create();
+    private static final List<Filter> ATTEMPT_FILTERS = List.of(CONCURRENCY_LIMITER, EXCHANGE_FILTER, JFR_FILTER);
+    private static final RetryFilter RETRY_FILTER = new RetryFilter(false, ATTEMPT_FILTERS);
+    private static final RetryFilter NON_IDEMPOTENT_RETRY_FILTER = new RetryFilter(true, ATTEMPT_FILTERS);
+
+    static {
+        HttpExchangeFilter.addListener(RunMetrics.getInstance());
+    }
+
+    private ApiRequest() {
+    }
+
+    public static RequestSpecification given() {
+        return withRetry(RETRY_FILTER);
+    }
+
+    public static RequestSpecification givenRetryingNonIdempotent() {
+        return withRetry(NON_IDEMPOTENT_RETRY_FILTER);
+    }
+
+    private static RequestSpecification withRetry(RetryFilter retryFilter) {
+        return RestAssured.given()
+                .baseUri(TestConfig.getBaseUrl())
+                .filter(retryFilter)
+                .filters(ATTEMPT_FILTERS);
+    }
+}
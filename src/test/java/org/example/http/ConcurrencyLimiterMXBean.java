@@ -0,0 +1,15 @@
+package org.example.http;
+
+public interface ConcurrencyLimiterMXBean {
+    int getLimit();
+
+    int getInFlight();
+
+    int getWaiting();
+
+    double getBaselineRttMillis();
+
+    long getLimitIncreases();
+
+    long getLimitDecreases();
+}
@@ -0,0 +1,34 @@
+package org.example.http;
+
+public final class EndpointTemplates {
+    private static final String ID_PLACEHOLDER = "{id}";
+
+    private EndpointTemplates() {
+    }
+
+    public static String of(String method, String path) {
+        return method + " " + templatePath(path);
+    }
+
+    public static String templatePath(String path) {
+        int queryStart = path.indexOf('?');
+        String rawPath = queryStart >= 0 ? path.substring(0, queryStart) : path;
+        StringBuilder template = new StringBuilder(rawPath.length());
+        for (String segment : rawPath.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(isNumeric(segment) ? ID_PLACEHOLDER : segment);
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static boolean isNumeric(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.http;
+
+public class HttpExchange {
+    private final String method;
+    private final String path;
+    private final String endpoint;
+    private final int statusCode;
+    private final long responseBytes;
+    private final long startEpochMillis;
+    private final long durationNanos;
+    private final String failure;
+
+    public HttpExchange(String method, String path, int statusCode, long responseBytes,
+                        long startEpochMillis, long durationNanos, String failure) {
+        this.method = method;
+        this.path = path;
+        this.endpoint = EndpointTemplates.of(method, path);
+        this.statusCode = statusCode;
+        this.responseBytes = responseBytes;
+        this.startEpochMillis = startEpochMillis;
+        this.durationNanos = durationNanos;
+        this.failure = failure;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public double getDurationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public boolean isTransportFailure() {
+        return failure != null;
+    }
+
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+
+    public boolean isClientError() {
+        return statusCode >= 400 && statusCode < 500;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class HttpExchangeFilter implements Filter {
+    private static final Logger logger = LogManager.getLogger(HttpExchangeFilter.class);
+    private static final List<HttpExchangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public static void addListener(HttpExchangeListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public static void removeListener(HttpExchangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String path = requestSpec.getDerivedPath();
+        String endpoint = EndpointTemplates.of(method, path);
+        listeners.forEach(listener -> notifyStart(listener, endpoint));
+
+        long startEpochMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            publish(new HttpExchange(method, path, response.getStatusCode(), response.asByteArray().length,
+                    startEpochMillis, System.nanoTime() - startNanos, null));
+            return response;
+        } catch (Exception e) {
+            publish(new HttpExchange(method, path, -1, 0,
+                    startEpochMillis, System.nanoTime() - startNanos, String.valueOf(e.getMessage())));
+            throw Throwables.rethrow(e);
+        }
+    }
+
+    private void notifyStart(HttpExchangeListener listener, String endpoint) {
+        try {
+            listener.onRequestStart(endpoint);
+        } catch (Exception e) {
+            logger.error("HTTP exchange listener failed on request start: {}", e.getMessage());
+        }
+    }
+
+    private void publish(HttpExchange exchange) {
+        for (HttpExchangeListener listener : listeners) {
+            try {
+                listener.onExchange(exchange);
+            } catch (Exception e) {
+                logger.error("HTTP exchange listener failed: {}", e.getMessage());
+            }
+        }
+    }
+}
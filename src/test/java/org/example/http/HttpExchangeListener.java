@@ -0,0 +1,8 @@
+package org.example.http;
+
+public interface HttpExchangeListener {
+    default void onRequestStart(String endpoint) {
+    }
+
+    void onExchange(HttpExchange exchange);
+}
@@ -0,0 +1,49 @@
+package org.example.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RetryBudget {
+    private final double retryRatio;
+    private final long minimumRetries;
+    private final LongAdder requests = new LongAdder();
+    private final AtomicLong retries = new AtomicLong();
+    private final LongAdder rejectedRetries = new LongAdder();
+
+    public RetryBudget(double retryRatio, long minimumRetries) {
+        if (retryRatio < 0 || minimumRetries < 0) {
+            throw new IllegalArgumentException("Retry budget ratio and minimum cannot be negative");
+        }
+        this.retryRatio = retryRatio;
+        this.minimumRetries = minimumRetries;
+    }
+
+    public void recordRequest() {
+        requests.increment();
+    }
+
+    public boolean tryAcquireRetry() {
+        while (true) {
+            long current = retries.get();
+            if (current >= allowedRetries()) {
+                rejectedRetries.increment();
+                return false;
+            }
+            if (retries.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getRejectedRetries() {
+        return rejectedRetries.sum();
+    }
+
+    private long allowedRetries() {
+        return minimumRetries + (long) (retryRatio * requests.sum());
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.http;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.budget.CallBudgetTracker;
+import org.example.config.TestConfig;
+import org.example.jfr.RetrySleepEvent;
+import org.example.metrics.RunMetrics;
+import org.example.profile.WallClockProfiler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+public class RetryFilter implements Filter {
+    private static final Logger logger = LogManager.getLogger(RetryFilter.class);
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final RetryBudget BUDGET = new RetryBudget(
+            TestConfig.getDoubleProperty("retry.budget.ratio", 0.1),
+            TestConfig.getLongProperty("retry.budget.min", 10));
+
+    private final boolean retryNonIdempotent;
+    private final List<Filter> attemptFilters;
+    private final boolean enabled = TestConfig.getBooleanProperty("retry.enabled", true);
+    private final int maxRetries = TestConfig.getIntProperty("retry.max.retries", 3);
+    private final long baseDelayMs = TestConfig.getLongProperty("retry.base.delay.ms", 200);
+    private final long maxDelayMs = TestConfig.getLongProperty("retry.max.delay.ms", 5000);
+    private final long maxRetryAfterMs = TestConfig.getLongProperty("retry.after.max.ms", 30000);
+    private final Set<Integer> retryableStatuses = Arrays.stream(
+                    TestConfig.getProperty("retry.statuses", "429,502,503,504").split(","))
+            .map(String::trim)
+            .map(Integer::parseInt)
+            .collect(Collectors.toUnmodifiableSet());
+
+    public RetryFilter(boolean retryNonIdempotent, List<Filter> attemptFilters) {
+        this.retryNonIdempotent = retryNonIdempotent;
+        this.attemptFilters = attemptFilters;
+    }
+
+    public static RetryBudget getBudget() {
+        return BUDGET;
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        BUDGET.recordRequest();
+        String method = requestSpec.getMethod();
+        String endpoint = EndpointTemplates.of(method, requestSpec.getDerivedPath());
+        CallBudgetTracker.getInstance().recordCall(endpoint);
+        try (WallClockProfiler.Frame ignored = WallClockProfiler.enterRequest(endpoint)) {
+            if (!enabled || !(retryNonIdempotent || IDEMPOTENT_METHODS.contains(method))) {
+                return ctx.next(requestSpec, responseSpec);
+            }
+            return sendWithRetries(requestSpec, responseSpec, ctx, endpoint);
+        }
+    }
+
+    private Response sendWithRetries(FilterableRequestSpecification requestSpec,
+                                     FilterableResponseSpecification responseSpec,
+                                     FilterContext ctx, String endpoint) {
+        for (int retry = 0; ; retry++) {
+            Response response;
+            try {
+                response = retry == 0 ? ctx.next(requestSpec, responseSpec) : resend(requestSpec, retry);
+            } catch (Exception e) {
+                if (!isTransient(e) || retry >= maxRetries || !tryAcquireRetry(endpoint)) {
+                    throw Throwables.rethrow(e);
+                }
+                logger.warn("Transient failure on {} ({}), retry {}/{}", endpoint, e.getMessage(), retry + 1, maxRetries);
+                backOff(endpoint, backoffDelay(retry));
+                continue;
+            }
+
+            if (!retryableStatuses.contains(response.getStatusCode()) || retry >= maxRetries) {
+                return response;
+            }
+            long delayMs = retryAfterDelay(response);
+            if (delayMs > maxRetryAfterMs) {
+                logger.warn("{} asked to retry after {} ms, above the {} ms limit - giving up", endpoint, delayMs, maxRetryAfterMs);
+                return response;
+            }
+            if (!tryAcquireRetry(endpoint)) {
+                return response;
+            }
+            logger.warn("Status {} from {}, retry {}/{}", response.getStatusCode(), endpoint, retry + 1, maxRetries);
+            backOff(endpoint, Math.max(delayMs, backoffDelay(retry)));
+        }
+    }
+
+    @SuppressWarnings("try")
+    private Response resend(FilterableRequestSpecification requestSpec, int retry) {
+        try (WallClockProfiler.Frame ignored = WallClockProfiler.enter("retry " + retry)) {
+            return RestAssured.given()
+                    .spec(requestSpec)
+                    .noFilters()
+                    .filters(attemptFilters)
+                    .request(requestSpec.getMethod(), requestSpec.getDerivedPath());
+        }
+    }
+
+    private boolean tryAcquireRetry(String endpoint) {
+        if (BUDGET.tryAcquireRetry()) {
+            return true;
+        }
+        logger.warn("Retry budget exhausted, not retrying {}", endpoint);
+        RunMetrics.getInstance().recordRetryBudgetRejection();
+        return false;
+    }
+
+    private long backoffDelay(int retry) {
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(retry, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private long retryAfterDelay(Response response) {
+        String retryAfter = response.getHeader(RETRY_AFTER_HEADER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim())).toMillis();
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis());
+            } catch (DateTimeParseException ignored) {
+                logger.debug("Ignoring unparseable Retry-After header: {}", retryAfter);
+                return 0;
+            }
+        }
+    }
+
+    private boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("try")
+    private void backOff(String endpoint, long delayMs) {
+        RunMetrics.getInstance().recordTransportRetry();
+        RetrySleepEvent sleepEvent = RetrySleepEvent.start("transport retry " + endpoint, delayMs);
+        try (WallClockProfiler.Frame ignored = WallClockProfiler.enter("sleep transport retry")) {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Retry backoff interrupted", e);
+        } finally {
+            if (sleepEvent != null) {
+                sleepEvent.commit();
+            }
+        }
+    }
+}
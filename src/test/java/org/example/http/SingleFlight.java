@@ -0,0 +1,96 @@
+package org.example.http;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.metrics.MBeans;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class SingleFlight implements SingleFlightMXBean {
+    private static final Logger logger = LogManager.getLogger(SingleFlight.class);
+    private static final SingleFlight INSTANCE = new SingleFlight();
+
+    private final boolean enabled = TestConfig.getBooleanProperty("http.coalescing.enabled", true);
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final Map<String, LongAdder> coalescedPerEndpoint = new ConcurrentHashMap<>();
+
+    private SingleFlight() {
+        MBeans.register(this, "type=SingleFlight");
+    }
+
+    public static SingleFlight getInstance() {
+        return INSTANCE;
+    }
+
+    public Response get(String path, long writeSequence, Supplier<Response> exchange) {
+        if (!enabled) {
+            return exchange.get();
+        }
+        String key = writeSequence + " " + path;
+        CompletableFuture<Response> flight = new CompletableFuture<>();
+        CompletableFuture<Response> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return join(path, leader);
+        }
+        executed.increment();
+        try {
+            Response response = exchange.get();
+            response.asByteArray();
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Response join(String path, CompletableFuture<Response> leader) {
+        String endpoint = EndpointTemplates.of("GET", path);
+        coalesced.increment();
+        coalescedPerEndpoint.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        logger.debug("Coalesced {} onto an in-flight identical request", path);
+        try {
+            return new ResponseBuilder().clone(leader.get()).build();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to share in-flight response for " + path, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for in-flight request " + path, e);
+        }
+    }
+
+    @Override
+    public long getExecutedRequests() {
+        return executed.sum();
+    }
+
+    @Override
+    public long getCoalescedRequests() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    @Override
+    public Map<String, Long> getCoalescedPerEndpoint() {
+        Map<String, Long> counts = new TreeMap<>();
+        coalescedPerEndpoint.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+}
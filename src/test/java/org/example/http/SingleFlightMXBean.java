@@ -0,0 +1,13 @@
+package org.example.http;
+
+import java.util.Map;
+
+public interface SingleFlightMXBean {
+    long getExecutedRequests();
+
+    long getCoalescedRequests();
+
+    int getInFlight();
+
+    Map<String, Long> getCoalescedPerEndpoint();
+}
@@ -0,0 +1,16 @@
+package org.example.http;
+
+public final class Throwables {
+
+    private Throwables() {
+    }
+
+    public static RuntimeException rethrow(Throwable throwable) {
+        return Throwables.<RuntimeException>sneakyThrow(throwable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneakyThrow(Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+}
@@ -0,0 +1,268 @@
+package org.example.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BookingShadowIndex {
+    private static final BookingShadowIndex INSTANCE = new BookingShadowIndex();
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int NO_ROW = -1;
+    private static final int NO_NAME = -1;
+    private static final int UNKNOWN_DATE = Integer.MIN_VALUE;
+
+    private int[] bookingIds;
+    private int[] firstnames;
+    private int[] lastnames;
+    private int[] checkinDays;
+    private int[] checkoutDays;
+    private int[] previousVersions;
+    private int[] sameNameRows;
+    private long[] sequences;
+    private final BitSet deleted = new BitSet();
+    private int rows;
+    private long sequence;
+
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> nameCodes = new HashMap<>();
+    private final Map<Integer, Integer> latestRows = new HashMap<>();
+    private final Map<Long, Integer> nameHeads = new HashMap<>();
+    private long[] checkinOrder = new long[0];
+
+    private BookingShadowIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public static BookingShadowIndex getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized long sequence() {
+        return sequence;
+    }
+
+    public synchronized int size() {
+        return latestRows.size();
+    }
+
+    public synchronized int rowCount() {
+        return rows;
+    }
+
+    public synchronized void recordBooking(int bookingId, JsonNode booking) {
+        JsonNode dates = booking.path("bookingdates");
+        append(bookingId, code(booking.path("firstname").asText(null)), code(booking.path("lastname").asText(null)),
+                epochDay(dates.path("checkin").asText(null)), epochDay(dates.path("checkout").asText(null)), false);
+    }
+
+    public synchronized void recordDeleted(int bookingId) {
+        int latest = latestRows.getOrDefault(bookingId, NO_ROW);
+        if (latest != NO_ROW && !deleted.get(latest)) {
+            append(bookingId, firstnames[latest], lastnames[latest], checkinDays[latest], checkoutDays[latest], true);
+        }
+    }
+
+    public synchronized boolean owns(int bookingId) {
+        return latestRows.containsKey(bookingId);
+    }
+
+    public synchronized Version versionAt(int bookingId, long atSequence) {
+        int row = rowAt(bookingId, atSequence);
+        if (row == NO_ROW) {
+            return null;
+        }
+        return new Version(bookingId, deleted.get(row), name(firstnames[row]), name(lastnames[row]),
+                date(checkinDays[row]), date(checkoutDays[row]));
+    }
+
+    public synchronized List<Integer> idsNamed(String firstname, String lastname, long atSequence) {
+        List<Integer> ids = new ArrayList<>();
+        Integer first = nameCodes.get(firstname);
+        Integer last = nameCodes.get(lastname);
+        if (first == null || last == null) {
+            return ids;
+        }
+        for (int row = nameHeads.getOrDefault(nameKey(first, last), NO_ROW); row != NO_ROW; row = sameNameRows[row]) {
+            if (isLiveVersion(row, atSequence)) {
+                ids.add(bookingIds[row]);
+            }
+        }
+        return ids;
+    }
+
+    public synchronized List<Integer> idsStayingBetween(LocalDate after, LocalDate before, long atSequence) {
+        sortByCheckin();
+        int afterDay = (int) after.toEpochDay();
+        int beforeDay = (int) before.toEpochDay();
+        int start = Arrays.binarySearch(checkinOrder, (long) (afterDay + 1) << 32);
+        List<Integer> ids = new ArrayList<>();
+        for (int i = start < 0 ? -start - 1 : start; i < checkinOrder.length; i++) {
+            int row = (int) checkinOrder[i];
+            if (checkinDays[row] >= beforeDay) {
+                break;
+            }
+            if (checkoutDays[row] != UNKNOWN_DATE && checkoutDays[row] < beforeDay && isLiveVersion(row, atSequence)) {
+                ids.add(bookingIds[row]);
+            }
+        }
+        return ids;
+    }
+
+    public synchronized void clear() {
+        allocate(INITIAL_CAPACITY);
+        deleted.clear();
+        rows = 0;
+        names.clear();
+        nameCodes.clear();
+        latestRows.clear();
+        nameHeads.clear();
+        checkinOrder = new long[0];
+    }
+
+    private void append(int bookingId, int firstname, int lastname, int checkinDay, int checkoutDay, boolean tombstone) {
+        if (rows == bookingIds.length) {
+            grow();
+        }
+        int row = rows++;
+        bookingIds[row] = bookingId;
+        firstnames[row] = firstname;
+        lastnames[row] = lastname;
+        checkinDays[row] = checkinDay;
+        checkoutDays[row] = checkoutDay;
+        sequences[row] = ++sequence;
+        deleted.set(row, tombstone);
+        Integer previous = latestRows.put(bookingId, row);
+        previousVersions[row] = previous == null ? NO_ROW : previous;
+        Integer sameName = nameHeads.put(nameKey(firstname, lastname), row);
+        sameNameRows[row] = sameName == null ? NO_ROW : sameName;
+    }
+
+    private int rowAt(int bookingId, long atSequence) {
+        int row = latestRows.getOrDefault(bookingId, NO_ROW);
+        while (row != NO_ROW && sequences[row] > atSequence) {
+            row = previousVersions[row];
+        }
+        return row;
+    }
+
+    private boolean isLiveVersion(int row, long atSequence) {
+        return !deleted.get(row) && rowAt(bookingIds[row], atSequence) == row;
+    }
+
+    private void sortByCheckin() {
+        if (checkinOrder.length == rows) {
+            return;
+        }
+        long[] order = new long[rows];
+        for (int row = 0; row < rows; row++) {
+            order[row] = (long) checkinDays[row] << 32 | row;
+        }
+        Arrays.sort(order);
+        checkinOrder = order;
+    }
+
+    private int code(String name) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        return nameCodes.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    private String name(int code) {
+        return code == NO_NAME ? null : names.get(code);
+    }
+
+    private static long nameKey(int firstname, int lastname) {
+        return (long) firstname << 32 | (lastname & 0xFFFFFFFFL);
+    }
+
+    private static int epochDay(String date) {
+        if (date == null) {
+            return UNKNOWN_DATE;
+        }
+        try {
+            return (int) LocalDate.parse(date).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return UNKNOWN_DATE;
+        }
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay == UNKNOWN_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private void allocate(int capacity) {
+        bookingIds = new int[capacity];
+        firstnames = new int[capacity];
+        lastnames = new int[capacity];
+        checkinDays = new int[capacity];
+        checkoutDays = new int[capacity];
+        previousVersions = new int[capacity];
+        sameNameRows = new int[capacity];
+        sequences = new long[capacity];
+    }
+
+    private void grow() {
+        int capacity = bookingIds.length * 2;
+        bookingIds = Arrays.copyOf(bookingIds, capacity);
+        firstnames = Arrays.copyOf(firstnames, capacity);
+        lastnames = Arrays.copyOf(lastnames, capacity);
+        checkinDays = Arrays.copyOf(checkinDays, capacity);
+        checkoutDays = Arrays.copyOf(checkoutDays, capacity);
+        previousVersions = Arrays.copyOf(previousVersions, capacity);
+        sameNameRows = Arrays.copyOf(sameNameRows, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+    }
+
+    public static final class Version {
+        private final int bookingId;
+        private final boolean deleted;
+        private final String firstname;
+        private final String lastname;
+        private final LocalDate checkin;
+        private final LocalDate checkout;
+
+        Version(int bookingId, boolean deleted, String firstname, String lastname, LocalDate checkin, LocalDate checkout) {
+            this.bookingId = bookingId;
+            this.deleted = deleted;
+            this.firstname = firstname;
+            this.lastname = lastname;
+            this.checkin = checkin;
+            this.checkout = checkout;
+        }
+
+        public int getBookingId() {
+            return bookingId;
+        }
+
+        public boolean isDeleted() {
+            return deleted;
+        }
+
+        public String getFirstname() {
+            return firstname;
+        }
+
+        public String getLastname() {
+            return lastname;
+        }
+
+        public LocalDate getCheckin() {
+            return checkin;
+        }
+
+        public LocalDate getCheckout() {
+            return checkout;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.json.JsonCodecs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookingShadowIndexTest {
+    private final BookingShadowIndex index = BookingShadowIndex.getInstance();
+
+    @BeforeEach
+    void clearIndex() {
+        index.clear();
+    }
+
+    @Test
+    void versionAtReturnsTheVersionCurrentAtEachSequence() {
+        long beforeCreate = index.sequence();
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        long created = index.sequence();
+        index.recordBooking(1, booking("Bob", "Lee", "2030-02-10", "2030-02-12"));
+        long updated = index.sequence();
+
+        assertNull(index.versionAt(1, beforeCreate));
+        assertEquals("Ann", index.versionAt(1, created).getFirstname());
+        assertEquals("Bob", index.versionAt(1, updated).getFirstname());
+        assertEquals(LocalDate.parse("2030-02-10"), index.versionAt(1, updated).getCheckin());
+    }
+
+    @Test
+    void idsNamedOnlyMatchesTheLiveVersionAtTheSequence() {
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        long created = index.sequence();
+        index.recordBooking(1, booking("Bob", "Lee", "2030-01-10", "2030-01-12"));
+        long updated = index.sequence();
+        index.recordBooking(2, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+
+        assertEquals(List.of(1), index.idsNamed("Ann", "Lee", created));
+        assertEquals(List.of(), index.idsNamed("Ann", "Lee", updated));
+        assertEquals(List.of(1), index.idsNamed("Bob", "Lee", updated));
+        assertEquals(List.of(2), index.idsNamed("Ann", "Lee", index.sequence()));
+        assertEquals(List.of(), index.idsNamed("Nobody", "Lee", index.sequence()));
+    }
+
+    @Test
+    void deletedBookingsAreTombstonedButRemainVisibleInEarlierSequences() {
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        long created = index.sequence();
+        index.recordDeleted(1);
+        long deleted = index.sequence();
+
+        assertTrue(index.owns(1));
+        assertTrue(index.versionAt(1, deleted).isDeleted());
+        assertEquals("Ann", index.versionAt(1, deleted).getFirstname());
+        assertFalse(index.versionAt(1, created).isDeleted());
+        assertEquals(List.of(), index.idsNamed("Ann", "Lee", deleted));
+        assertEquals(List.of(1), index.idsNamed("Ann", "Lee", created));
+        assertEquals(List.of(), index.idsStayingBetween(LocalDate.parse("2030-01-01"), LocalDate.parse("2030-02-01"), deleted));
+    }
+
+    @Test
+    void deletingAnUnknownOrAlreadyDeletedBookingAddsNoVersion() {
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        index.recordDeleted(1);
+        long sequence = index.sequence();
+
+        index.recordDeleted(1);
+        index.recordDeleted(99);
+
+        assertEquals(sequence, index.sequence());
+        assertEquals(2, index.rowCount());
+        assertFalse(index.owns(99));
+    }
+
+    @Test
+    void idsStayingBetweenExcludesBothBoundaries() {
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        long now = index.sequence();
+
+        assertEquals(List.of(1), index.idsStayingBetween(LocalDate.parse("2030-01-09"), LocalDate.parse("2030-01-13"), now));
+        assertEquals(List.of(), index.idsStayingBetween(LocalDate.parse("2030-01-10"), LocalDate.parse("2030-01-13"), now));
+        assertEquals(List.of(), index.idsStayingBetween(LocalDate.parse("2030-01-09"), LocalDate.parse("2030-01-12"), now));
+    }
+
+    @Test
+    void idsStayingBetweenOrdersByCheckinAcrossTheEpochAndSeesLaterRows() {
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        index.recordBooking(2, booking("Bob", "Lee", "1969-12-30", "1970-01-02"));
+        LocalDate after = LocalDate.parse("1969-01-01");
+        LocalDate before = LocalDate.parse("2031-01-01");
+
+        assertEquals(List.of(2, 1), index.idsStayingBetween(after, before, index.sequence()));
+
+        index.recordBooking(3, booking("Cy", "Lee", "2000-06-01", "2000-06-03"));
+        assertEquals(List.of(2, 3, 1), index.idsStayingBetween(after, before, index.sequence()));
+    }
+
+    @Test
+    void idsStayingBetweenFollowsDateChangesBySequence() {
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        long created = index.sequence();
+        index.recordBooking(1, booking("Ann", "Lee", "2030-03-10", "2030-03-12"));
+        long moved = index.sequence();
+        LocalDate after = LocalDate.parse("2030-01-01");
+        LocalDate before = LocalDate.parse("2030-02-01");
+
+        assertEquals(List.of(1), index.idsStayingBetween(after, before, created));
+        assertEquals(List.of(), index.idsStayingBetween(after, before, moved));
+    }
+
+    @Test
+    void sizeCountsBookingsWhileRowCountCountsEveryVersion() {
+        index.recordBooking(1, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+        index.recordBooking(1, booking("Bob", "Lee", "2030-01-10", "2030-01-12"));
+        index.recordBooking(1, booking("Cy", "Lee", "2030-01-10", "2030-01-12"));
+        index.recordDeleted(1);
+        index.recordBooking(2, booking("Ann", "Lee", "2030-01-10", "2030-01-12"));
+
+        assertEquals(2, index.size());
+        assertEquals(5, index.rowCount());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(0, index.rowCount());
+    }
+
+    @Test
+    void unparseableDatesAreStoredAsUnknown() {
+        index.recordBooking(1, booking("Ann", "Lee", "not-a-date", "2030-01-12"));
+
+        assertNull(index.versionAt(1, index.sequence()).getCheckin());
+        assertEquals(List.of(), index.idsStayingBetween(LocalDate.parse("2000-01-01"), LocalDate.parse("2040-01-01"), index.sequence()));
+    }
+
+    private static JsonNode booking(String firstname, String lastname, String checkin, String checkout) {
+        String json = "{\"firstname\":\"" + firstname + "\",\"lastname\":\"" + lastname + "\",\"bookingdates\":{"
+                + "\"checkin\":\"" + checkin + "\",\"checkout\":\"" + checkout + "\"}}";
+        return JsonCodecs.readTree(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
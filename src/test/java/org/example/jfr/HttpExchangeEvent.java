@@ -0,0 +1,35 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.HttpExchange")
+@Label("HTTP Exchange")
+@Description("A single HTTP request/response exchange against the booking API")
+@Category({"Booking API Tests", "HTTP"})
+@StackTrace(false)
+public class HttpExchangeEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,43 @@
+package org.example.jfr;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import jdk.jfr.FlightRecorder;
+import org.example.http.EndpointTemplates;
+import org.example.http.Throwables;
+
+public class JfrHttpFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!FlightRecorder.isInitialized()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        if (!event.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        event.method = requestSpec.getMethod();
+        event.path = requestSpec.getDerivedPath();
+        event.endpoint = EndpointTemplates.of(event.method, event.path);
+        event.begin();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            event.statusCode = response.getStatusCode();
+            event.responseBytes = response.asByteArray().length;
+            return response;
+        } catch (Exception e) {
+            event.statusCode = -1;
+            event.failure = String.valueOf(e.getMessage());
+            throw Throwables.rethrow(e);
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.jfr;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class JfrRecordingPlugin implements ConcurrentEventListener {
+    private static final Logger logger = LogManager.getLogger(JfrRecordingPlugin.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Map<UUID, ScenarioEvent> scenarioEvents = new ConcurrentHashMap<>();
+    private final Map<UUID, StepEvent> stepEvents = new ConcurrentHashMap<>();
+    private Recording recording;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> startRecording());
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> stopRecording());
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        ScenarioEvent scenarioEvent = new ScenarioEvent();
+        if (!scenarioEvent.isEnabled()) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        scenarioEvent.feature = testCase.getUri().toString();
+        scenarioEvent.scenario = testCase.getName();
+        scenarioEvent.begin();
+        scenarioEvents.put(testCase.getId(), scenarioEvent);
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        ScenarioEvent scenarioEvent = scenarioEvents.remove(event.getTestCase().getId());
+        if (scenarioEvent != null) {
+            scenarioEvent.status = event.getResult().getStatus().name();
+            scenarioEvent.commit();
+        }
+    }
+
+    private void onTestStepStarted(TestStepStarted event) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        StepEvent stepEvent = new StepEvent();
+        if (!stepEvent.isEnabled()) {
+            return;
+        }
+        stepEvent.scenario = event.getTestCase().getName();
+        stepEvent.step = describe(event.getTestStep());
+        stepEvent.begin();
+        stepEvents.put(event.getTestStep().getId(), stepEvent);
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        StepEvent stepEvent = stepEvents.remove(event.getTestStep().getId());
+        if (stepEvent != null) {
+            stepEvent.status = event.getResult().getStatus().name();
+            stepEvent.commit();
+        }
+    }
+
+    private String describe(TestStep testStep) {
+        if (testStep instanceof PickleStepTestStep) {
+            PickleStepTestStep pickleStep = (PickleStepTestStep) testStep;
+            return pickleStep.getStep().getKeyword() + pickleStep.getStep().getText();
+        }
+        if (testStep instanceof HookTestStep) {
+            return "Hook: " + ((HookTestStep) testStep).getHookType() + " " + testStep.getCodeLocation();
+        }
+        return testStep.getCodeLocation();
+    }
+
+    private void startRecording() {
+        if (!TestConfig.getBooleanProperty("jfr.record", false)) {
+            return;
+        }
+        try {
+            Path outputDir = Paths.get(TestConfig.getProperty("jfr.output.dir", "target/jfr"));
+            Files.createDirectories(outputDir);
+            Path destination = outputDir.resolve("run-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+
+            recording = new Recording(Configuration.getConfiguration(TestConfig.getProperty("jfr.settings", "profile")));
+            recording.setName("booking-api-tests");
+            recording.setDestination(destination);
+            recording.start();
+            logger.info("Started JFR recording, writing to {}", destination);
+        } catch (Exception e) {
+            logger.error("Failed to start JFR recording: {}", e.getMessage());
+            recording = null;
+        }
+    }
+
+    private void stopRecording() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            recording.stop();
+            logger.info("JFR recording written to {}", recording.getDestination());
+        } catch (Exception e) {
+            logger.error("Failed to stop JFR recording: {}", e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+}
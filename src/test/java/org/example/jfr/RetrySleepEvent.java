@@ -0,0 +1,31 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("org.example.RetrySleep")
+@Label("Retry Sleep")
+@Category({"Booking API Tests", "Retries"})
+public class RetrySleepEvent extends Event {
+    @Label("Reason")
+    String reason;
+
+    @Label("Requested Sleep")
+    @Timespan(Timespan.MILLISECONDS)
+    long requestedMillis;
+
+    public static RetrySleepEvent start(String reason, long requestedMillis) {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        RetrySleepEvent event = new RetrySleepEvent();
+        event.reason = reason;
+        event.requestedMillis = requestedMillis;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.Scenario")
+@Label("Cucumber Scenario")
+@Category({"Booking API Tests", "Cucumber"})
+@StackTrace(false)
+public class ScenarioEvent extends Event {
+    @Label("Feature")
+    String feature;
+
+    @Label("Scenario")
+    String scenario;
+
+    @Label("Status")
+    String status;
+}
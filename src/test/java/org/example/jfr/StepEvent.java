@@ -0,0 +1,22 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.Step")
+@Label("Cucumber Step")
+@Category({"Booking API Tests", "Cucumber"})
+@StackTrace(false)
+public class StepEvent extends Event {
+    @Label("Scenario")
+    String scenario;
+
+    @Label("Step")
+    String step;
+
+    @Label("Status")
+    String status;
+}
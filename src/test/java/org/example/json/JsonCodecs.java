@@ -0,0 +1,76 @@
+package org.example.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.flaky.FlakyHistory;
+import org.example.history.RunRecord;
+import org.example.models.AuthRequest;
+import org.example.models.AuthResponse;
+import org.example.models.BookingDates;
+import org.example.models.BookingRequest;
+import org.example.models.BookingResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+public final class JsonCodecs {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    public static final ModelCodec<BookingRequest> BOOKING_REQUEST = new ModelCodec<>(BookingRequest.class);
+    public static final ModelCodec<BookingDates> BOOKING_DATES = new ModelCodec<>(BookingDates.class);
+    public static final ModelCodec<BookingResponse> BOOKING_RESPONSE = new ModelCodec<>(BookingResponse.class);
+    public static final ModelCodec<AuthRequest> AUTH_REQUEST = new ModelCodec<>(AuthRequest.class);
+    public static final ModelCodec<AuthResponse> AUTH_RESPONSE = new ModelCodec<>(AuthResponse.class);
+    public static final ModelCodec<RunRecord> RUN_RECORD = new ModelCodec<>(RunRecord.class);
+    public static final ModelCodec<FlakyHistory> FLAKY_HISTORY = new ModelCodec<>(FlakyHistory.class);
+
+    private JsonCodecs() {
+    }
+
+    public static byte[] writeFields(Map<String, Object> fields) {
+        try {
+            return MapperHolder.FIELDS_WRITER.writeValueAsBytes(fields);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize request fields", e);
+        }
+    }
+
+    public static JsonNode readTree(byte[] json) {
+        try {
+            return mapper().readTree(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse JSON document", e);
+        }
+    }
+
+    public static ObjectReader readerFor(TypeReference<?> type) {
+        return mapper().readerFor(type);
+    }
+
+    public static ObjectReader readerFor(Class<?> type) {
+        return mapper().readerFor(type);
+    }
+
+    public static JsonFactory factory() {
+        return FACTORY;
+    }
+
+    static ObjectMapper mapper() {
+        return MapperHolder.MAPPER;
+    }
+
+    private static final class MapperHolder {
+        private static final ObjectMapper MAPPER = JsonMapper.builder(FACTORY)
+                .addModule(new BlackbirdModule())
+                .build();
+
+        private static final ObjectWriter FIELDS_WRITER = MAPPER.writerFor(new TypeReference<Map<String, Object>>() {
+        });
+    }
+}
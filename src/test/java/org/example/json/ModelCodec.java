@@ -0,0 +1,54 @@
+package org.example.json;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+
+public final class ModelCodec<T> {
+    private final Class<T> type;
+    private volatile ObjectReader reader;
+    private volatile ObjectWriter writer;
+
+    ModelCodec(Class<T> type) {
+        this.type = type;
+    }
+
+    public byte[] write(T value) {
+        try {
+            return writer().writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize " + type.getSimpleName(), e);
+        }
+    }
+
+    public T read(byte[] json) {
+        try {
+            return reader().readValue(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    private ObjectReader reader() {
+        ObjectReader current = reader;
+        if (current == null) {
+            current = JsonCodecs.mapper().readerFor(type);
+            reader = current;
+        }
+        return current;
+    }
+
+    private ObjectWriter writer() {
+        ObjectWriter current = writer;
+        if (current == null) {
+            current = JsonCodecs.mapper().writerFor(type);
+            writer = current;
+        }
+        return current;
+    }
+}
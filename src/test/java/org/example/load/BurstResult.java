@@ -0,0 +1,107 @@
+package org.example.load;
+
+import org.example.metrics.RollingLatencyWindow;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class BurstResult {
+    private final int[] statusCodes;
+    private final long[] latenciesNanos;
+    private final int[] bookingIds;
+    private final String[] failures;
+    private final long wallNanos;
+
+    public BurstResult(int[] statusCodes, long[] latenciesNanos, int[] bookingIds, String[] failures, long wallNanos) {
+        this.statusCodes = statusCodes;
+        this.latenciesNanos = latenciesNanos;
+        this.bookingIds = bookingIds;
+        this.failures = failures;
+        this.wallNanos = wallNanos;
+    }
+
+    public int getRequestCount() {
+        return statusCodes.length;
+    }
+
+    public Map<Integer, Integer> getStatusDistribution() {
+        Map<Integer, Integer> distribution = new TreeMap<>();
+        for (int statusCode : statusCodes) {
+            distribution.merge(statusCode, 1, Integer::sum);
+        }
+        return distribution;
+    }
+
+    public int countWithStatus(int statusCode) {
+        int count = 0;
+        for (int actual : statusCodes) {
+            if (actual == statusCode) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public double getThroughputPerSecond() {
+        return wallNanos == 0 ? 0 : statusCodes.length / (wallNanos / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(double percentile) {
+        return RollingLatencyWindow.percentileMillis(latenciesNanos, percentile);
+    }
+
+    public double getWallMillis() {
+        return wallNanos / 1_000_000.0;
+    }
+
+    public List<Integer> getCreatedBookingIds() {
+        List<Integer> ids = new ArrayList<>();
+        for (int bookingId : bookingIds) {
+            if (bookingId > 0) {
+                ids.add(bookingId);
+            }
+        }
+        return ids;
+    }
+
+    public Set<Integer> getDuplicateBookingIds() {
+        Set<Integer> seen = new HashSet<>();
+        Set<Integer> duplicates = new HashSet<>();
+        for (int bookingId : bookingIds) {
+            if (bookingId > 0 && !seen.add(bookingId)) {
+                duplicates.add(bookingId);
+            }
+        }
+        return duplicates;
+    }
+
+    public int getSuccessfulResponsesWithoutBookingId(int successStatus) {
+        int missing = 0;
+        for (int i = 0; i < statusCodes.length; i++) {
+            if (statusCodes[i] == successStatus && bookingIds[i] <= 0) {
+                missing++;
+            }
+        }
+        return missing;
+    }
+
+    public List<String> getFailures() {
+        List<String> messages = new ArrayList<>();
+        for (String failure : failures) {
+            if (failure != null) {
+                messages.add(failure);
+            }
+        }
+        return messages;
+    }
+
+    public String summary() {
+        return String.format("%d requests in %.1f ms (%.1f req/s), status %s, p50 %.1f ms, p95 %.1f ms, p99 %.1f ms",
+                getRequestCount(), getWallMillis(), getThroughputPerSecond(), getStatusDistribution(),
+                percentileMillis(50), percentileMillis(95), percentileMillis(99));
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.load;
+
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+public class ConcurrentBurst {
+    private static final Logger logger = LogManager.getLogger(ConcurrentBurst.class);
+
+    public BurstResult run(int requests, IntFunction<Response> request, ToIntFunction<Response> bookingIdExtractor) {
+        if (requests < 1) {
+            throw new IllegalArgumentException("A burst needs at least one request");
+        }
+        int[] statusCodes = new int[requests];
+        long[] latenciesNanos = new long[requests];
+        int[] bookingIds = new int[requests];
+        String[] failures = new String[requests];
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(requests);
+
+        logger.info("Starting burst of {} concurrent requests on virtual threads", requests);
+        long startNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    try {
+                        startGate.await();
+                        long requestStart = System.nanoTime();
+                        try {
+                            Response response = request.apply(index);
+                            latenciesNanos[index] = System.nanoTime() - requestStart;
+                            statusCodes[index] = response.getStatusCode();
+                            bookingIds[index] = bookingIdExtractor.applyAsInt(response);
+                        } catch (Exception e) {
+                            latenciesNanos[index] = System.nanoTime() - requestStart;
+                            statusCodes[index] = -1;
+                            failures[index] = e.getMessage();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        statusCodes[index] = -1;
+                        failures[index] = "Interrupted before start";
+                    } finally {
+                        finished.countDown();
+                    }
+                });
+            }
+            startNanos = System.nanoTime();
+            startGate.countDown();
+            awaitCompletion(finished);
+        }
+        BurstResult result = new BurstResult(statusCodes, latenciesNanos, bookingIds, failures, System.nanoTime() - startNanos);
+        logger.info("Burst finished: {}", result.summary());
+        return result;
+    }
+
+    private void awaitCompletion(CountDownLatch finished) {
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for burst to finish", e);
+        }
+    }
+}
@@ -1,19 +1,18 @@
 package org.example.methods;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.TestConfig;
+import org.example.http.ApiRequest;
+import org.example.json.JsonCodecs;
 import org.example.models.AuthRequest;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.metrics.RunMetrics;
 import org.example.models.AuthResponse;
 import org.junit.Assert;
 
 public class AuthMethods {
     private static final Logger logger = LogManager.getLogger(AuthMethods.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
     private static final String CONTENT_TYPE = "application/json";
     private static final String AUTH_ENDPOINT = "/auth";
     private static final String TOKEN_KEY = "token";
@@ -71,9 +70,11 @@ public class AuthMethods {
             Assert.assertNotNull("Token should not be null", token);
             Assert.assertFalse("Token should not be empty", token.isEmpty());
             logger.debug("Token verified - Length: {}", token.length());
+            RunMetrics.getInstance().recordTokenIssued();
             logger.info("Successfully verified token generation");
         } catch (Exception e) {
             logger.error("Token verification failed: {}", e.getMessage());
+            RunMetrics.getInstance().recordTokenFailure();
             throw new RuntimeException("Token verification failed", e);
         }
     }
@@ -168,7 +169,7 @@ public class AuthMethods {
     private void executeAuthRequest(AuthRequest authRequest) {
         try {
             logger.debug("Executing auth request");
-            String requestBody = serializeAuthRequest(authRequest);
+            byte[] requestBody = serializeAuthRequest(authRequest);
             sendAuthRequest(requestBody);
             logResponseDetails();
         } catch (Exception e) {
@@ -177,21 +178,20 @@ public class AuthMethods {
         }
     }
 
-    private String serializeAuthRequest(AuthRequest authRequest) throws JsonProcessingException {
+    private byte[] serializeAuthRequest(AuthRequest authRequest) {
         try {
             logger.trace("Serializing auth request");
-            return mapper.writeValueAsString(authRequest);
-        } catch (JsonProcessingException e) {
+            return JsonCodecs.AUTH_REQUEST.write(authRequest);
+        } catch (RuntimeException e) {
             logger.error("Auth request serialization failed: {}", e.getMessage());
             throw e;
         }
     }
 
-    private void sendAuthRequest(String requestBody) {
+    private void sendAuthRequest(byte[] requestBody) {
         try {
             logger.debug("Sending auth request to endpoint: {}", AUTH_ENDPOINT);
-            this.response = RestAssured.given()
-                    .baseUri(TestConfig.getBaseUrl())
+            this.response = ApiRequest.givenRetryingNonIdempotent()
                     .contentType(CONTENT_TYPE)
                     .body(requestBody)
                     .post(AUTH_ENDPOINT);
@@ -204,7 +204,7 @@ public class AuthMethods {
     private String extractTokenFromResponse() {
         try {
             logger.debug("Extracting token from response");
-            AuthResponse authResponse = response.as(AuthResponse.class);
+            AuthResponse authResponse = JsonCodecs.AUTH_RESPONSE.read(response.asByteArray());
             if (authResponse.getToken() == null || authResponse.getToken().isEmpty()) {
                 throw new RuntimeException("Token not found in response");
             }
@@ -1,40 +1,79 @@
 package org.example.methods;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.cucumber.datatable.DataTable;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.TestConfig;
+import org.example.consistency.VisibilityProbe;
 import org.example.context.ScenarioContext;
+import org.example.data.BookingDataGenerator;
+import org.example.data.BookingTables;
+import org.example.http.ApiRequest;
+import org.example.http.SingleFlight;
+import org.example.index.BookingShadowIndex;
+import org.example.jfr.RetrySleepEvent;
+import org.example.json.JsonCodecs;
+import org.example.metrics.RunMetrics;
 import org.example.models.BookingDates;
+import org.example.models.BookingFieldUpdate;
 import org.example.models.BookingRequest;
 import org.example.models.BookingResponse;
+import org.example.profile.WallClockProfiler;
+import org.example.verify.BookingComparator;
+import org.example.verify.BookingDiff;
 import org.junit.Assert;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class BookingMethods {
     private static final Logger logger = LogManager.getLogger(BookingMethods.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
-    private static final int MAX_VERIFICATION_ATTEMPTS = 3;
-    private static final long VERIFICATION_RETRY_DELAY_MS = 1000;
     private static final String BOOKING_ENDPOINT = "/booking";
     private static final String CONTENT_TYPE = "application/json";
     private static final String TOKEN_HEADER = "Cookie";
     private static final String ACCEPT_HEADER = "Accept";
     private static final String TOKEN_PREFIX = "token=";
+    private static final BookingComparator EXACT_COMPARATOR = new BookingComparator();
+    private static final BookingComparator DATE_TOLERANT_COMPARATOR = new BookingComparator(1);
 
     private final ScenarioContext scenarioContext = ScenarioContext.getInstance();
+    private final BookingShadowIndex shadowIndex = BookingShadowIndex.getInstance();
+    private final VisibilityProbe visibilityProbe = VisibilityProbe.getInstance();
+    private final SingleFlight singleFlight = SingleFlight.getInstance();
+    private final int maxVerificationAttempts = TestConfig.getIntProperty("verification.max.attempts", 3);
+    private final long verificationRetryDelayMs = TestConfig.getLongProperty("verification.retry.delay.ms", 1000);
+    private final boolean coalesceReads;
     private Response response;
     private int bookingId;
     private BookingRequest currentBookingRequest;
+    private long filterSentAtSequence;
+    private long filterReceivedAtSequence;
+
+    public BookingMethods() {
+        this(true);
+    }
+
+    public BookingMethods(boolean coalesceReads) {
+        if (maxVerificationAttempts < 1) {
+            throw new IllegalArgumentException("verification.max.attempts must be at least 1: " + maxVerificationAttempts);
+        }
+        if (verificationRetryDelayMs < 0) {
+            throw new IllegalArgumentException("verification.retry.delay.ms cannot be negative: " + verificationRetryDelayMs);
+        }
+        this.coalesceReads = coalesceReads;
+    }
 
     public Response getBookingById(int id) {
         try {
@@ -59,6 +98,13 @@ public class BookingMethods {
         }
     }
 
+    public void getBookingByIdTypeRepeatedly(String idType, int times) {
+        logger.info("Getting booking by ID type {} {} times", idType, times);
+        for (int i = 0; i < times; i++) {
+            getBookingByIdType(idType);
+        }
+    }
+
     private int resolveBookingIdFromType(String idType) {
         if (idType.equals("test_booking")) {
             return getTestBookingIdFromContext();
@@ -94,6 +140,13 @@ public class BookingMethods {
         this.bookingId = extractBookingIdFromResponse();
     }
 
+    public Response submitBooking(BookingRequest request) {
+        validateBookingRequest(request);
+        this.currentBookingRequest = request;
+        this.response = executeBookingCreationRequest(request);
+        return response;
+    }
+
     private void validateBookingRequest(BookingRequest request) {
         if (request.getFirstname() == null || request.getFirstname().isEmpty()) {
             throw new IllegalArgumentException("Firstname cannot be null or empty");
@@ -113,11 +166,50 @@ public class BookingMethods {
     }
 
     private Response executeBookingCreationRequest(BookingRequest request) {
-        return RestAssured.given()
-                .baseUri(TestConfig.getBaseUrl())
+        Response response = ApiRequest.given()
                 .contentType("application/json")
-                .body(request)
+                .body(JsonCodecs.BOOKING_REQUEST.write(request))
                 .post("/booking");
+        recordCreatedBooking(response);
+        return response;
+    }
+
+    private void recordCreatedBooking(Response response) {
+        if (response.getStatusCode() != 200) {
+            return;
+        }
+        JsonNode created;
+        try {
+            created = JsonCodecs.readTree(response.asByteArray());
+        } catch (RuntimeException e) {
+            logger.warn("Could not index created booking: {}", e.getMessage());
+            return;
+        }
+        int id = created.path("bookingid").asInt();
+        shadowIndex.recordBooking(id, created.path("booking"));
+        visibilityProbe.awaitWritten("POST", id, created.path("booking"));
+    }
+
+    private void recordUpdatedBooking(String operation, int id, Response response) {
+        if (response.getStatusCode() != 200) {
+            return;
+        }
+        JsonNode updated;
+        try {
+            updated = JsonCodecs.readTree(response.asByteArray());
+        } catch (RuntimeException e) {
+            logger.warn("Could not index updated booking {}: {}", id, e.getMessage());
+            return;
+        }
+        shadowIndex.recordBooking(id, updated);
+        visibilityProbe.awaitWritten(operation, id, updated);
+    }
+
+    private void recordDeletedBooking(int id, Response response) {
+        if (response.getStatusCode() == 201) {
+            shadowIndex.recordDeleted(id);
+            visibilityProbe.awaitDeleted(id);
+        }
     }
 
 
@@ -128,9 +220,10 @@ public class BookingMethods {
     public Response updateBooking(int id, BookingRequest bookingRequest, String token) {
         try {
             logger.info("Updating booking with ID: {}", id);
-            Map<String, Object> requestBody = createUpdateRequestBody(bookingRequest);
+            byte[] requestBody = JsonCodecs.BOOKING_REQUEST.write(bookingRequest);
             this.response = executeUpdateRequest(id, token, requestBody);
             logResponseDetails(response);
+            recordUpdatedBooking("PUT", id, response);
             logger.info("Booking updated successfully");
             return response;
         } catch (Exception e) {
@@ -139,34 +232,8 @@ public class BookingMethods {
         }
     }
 
-    private Map<String, Object> createUpdateRequestBody(BookingRequest bookingRequest) {
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("firstname", bookingRequest.getFirstname());
-        requestBody.put("lastname", bookingRequest.getLastname());
-        requestBody.put("totalprice", bookingRequest.getTotalprice());
-        requestBody.put("depositpaid", bookingRequest.isDepositpaid());
-        requestBody.put("bookingdates", createBookingDatesMap(bookingRequest));
-        requestBody.put("additionalneeds", bookingRequest.getAdditionalneeds());
-        logger.debug("Update request body: {}", requestBody);
-        return requestBody;
-    }
-
-    private Map<String, String> createBookingDatesMap(BookingRequest bookingRequest) {
-        Map<String, String> bookingDates = new HashMap<>();
-        bookingDates.put("checkin", formatDate(bookingRequest.getBookingdates().getCheckin()));
-        bookingDates.put("checkout", formatDate(bookingRequest.getBookingdates().getCheckout()));
-        return bookingDates;
-    }
-
-    private String formatDate(Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return sdf.format(date);
-    }
-
-    private Response executeUpdateRequest(int id, String token, Map<String, Object> requestBody) {
-        return RestAssured.given()
-                .baseUri(TestConfig.getBaseUrl())
+    private Response executeUpdateRequest(int id, String token, byte[] requestBody) {
+        return ApiRequest.given()
                 .contentType(CONTENT_TYPE)
                 .header(ACCEPT_HEADER, CONTENT_TYPE)
                 .header(TOKEN_HEADER, TOKEN_PREFIX + token)
@@ -178,12 +245,11 @@ public class BookingMethods {
         try {
             logger.info("Partially updating booking with ID: {}", id);
             processDateFields(fields);
-            String requestBody = serializeFieldsToJson(fields);
+            byte[] requestBody = JsonCodecs.writeFields(fields);
             executePartialUpdateRequest(id, token, requestBody);
             logResponseDetails(response);
+            recordUpdatedBooking("PATCH", id, response);
             logger.info("Booking partially updated successfully");
-        } catch (JsonProcessingException e) {
-            handleJsonProcessingError(e);
         } catch (Exception e) {
             handlePartialUpdateError(e);
         }
@@ -202,24 +268,14 @@ public class BookingMethods {
         }
     }
 
-    private String serializeFieldsToJson(Map<String, Object> fields) throws JsonProcessingException {
-        return mapper.writeValueAsString(fields);
-    }
-
-    private void executePartialUpdateRequest(int id, String token, String requestBody) {
-        this.response = RestAssured.given()
-                .baseUri(TestConfig.getBaseUrl())
+    private void executePartialUpdateRequest(int id, String token, byte[] requestBody) {
+        this.response = ApiRequest.given()
                 .contentType(CONTENT_TYPE)
                 .header(TOKEN_HEADER, TOKEN_PREFIX + token)
                 .body(requestBody)
                 .patch(buildBookingPath(id));
     }
 
-    private void handleJsonProcessingError(JsonProcessingException e) {
-        logger.error("JSON processing failed during partial update: {}", e.getMessage());
-        throw new RuntimeException("Failed to process request body", e);
-    }
-
     private void handlePartialUpdateError(Exception e) {
         logger.error("Failed to partially update booking: {}", e.getMessage());
         throw new RuntimeException("Failed to partially update booking", e);
@@ -230,6 +286,7 @@ public class BookingMethods {
             logger.info("Deleting booking with ID: {}", bookingId);
             this.response = executeDeleteRequest(bookingId, token);
             logResponseDetails(response);
+            recordDeletedBooking(bookingId, response);
             logger.info("Booking deleted successfully");
             return response;
         } catch (Exception e) {
@@ -239,8 +296,7 @@ public class BookingMethods {
     }
 
     private Response executeDeleteRequest(int bookingId, String token) {
-        return RestAssured.given()
-                .baseUri(TestConfig.getBaseUrl())
+        return ApiRequest.given()
                 .header(ACCEPT_HEADER, CONTENT_TYPE)
                 .header(TOKEN_HEADER, TOKEN_PREFIX + token)
                 .delete(buildBookingPath(bookingId));
@@ -262,7 +318,9 @@ public class BookingMethods {
         try {
             logger.info("Getting booking IDs with filters - firstname: {}, lastname: {}", firstname, lastname);
             storeFilterParameters(firstname, lastname);
+            this.filterSentAtSequence = shadowIndex.sequence();
             this.response = executeFilteredGetRequest(firstname, lastname);
+            this.filterReceivedAtSequence = shadowIndex.sequence();
             logResponseDetails(response);
             logger.info("Successfully retrieved filtered booking IDs");
         } catch (Exception e) {
@@ -277,18 +335,20 @@ public class BookingMethods {
     }
 
     private Response executeFilteredGetRequest(String firstname, String lastname) {
-        return RestAssured.given()
-                .baseUri(TestConfig.getBaseUrl())
+        String key = queryKey("firstname", firstname, "lastname", lastname);
+        return coalescedGet(key, filterSentAtSequence, () -> ApiRequest.given()
                 .queryParam("firstname", firstname)
                 .queryParam("lastname", lastname)
-                .get(BOOKING_ENDPOINT);
+                .get(BOOKING_ENDPOINT));
     }
 
     public void getBookingIdsWithDateFilters(String checkin, String checkout) {
         try {
             logger.info("Getting booking IDs with date filters - checkin: {}, checkout: {}", checkin, checkout);
             storeDateFilterParameters(checkin, checkout);
+            this.filterSentAtSequence = shadowIndex.sequence();
             this.response = executeDateFilteredGetRequest(checkin, checkout);
+            this.filterReceivedAtSequence = shadowIndex.sequence();
             logResponseDetails(response);
             logger.info("Successfully retrieved booking IDs with date filters");
         } catch (Exception e) {
@@ -303,61 +363,17 @@ public class BookingMethods {
     }
 
     private Response executeDateFilteredGetRequest(String checkin, String checkout) {
-        return RestAssured.given()
-                .baseUri(TestConfig.getBaseUrl())
+        String key = queryKey("checkin", checkin, "checkout", checkout);
+        return coalescedGet(key, filterSentAtSequence, () -> ApiRequest.given()
                 .queryParam("checkin", checkin)
                 .queryParam("checkout", checkout)
-                .get(BOOKING_ENDPOINT);
+                .get(BOOKING_ENDPOINT));
     }
 
-    public void updateBookingWithMap(int id, Map<String, String> bookingData, String token) throws ParseException {
-        try {
-            logger.info("Updating booking with ID {} using map data", id);
-            BookingRequest updateRequest = createBookingRequestFromMap(bookingData);
-            this.response = updateBooking(id, updateRequest, token);
-        } catch (Exception e) {
-            logger.error("Failed to update booking with map data: {}", e.getMessage());
-            throw e;
-        }
-    }
-
-    private BookingRequest createBookingRequestFromMap(Map<String, String> bookingData) throws ParseException {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        sdf.setLenient(false);
-
-        Date checkin = sdf.parse(bookingData.get("checkin"));
-        Date checkout = sdf.parse(bookingData.get("checkout"));
-
-        return new BookingRequest(
-                bookingData.get("firstname"),
-                bookingData.get("lastname"),
-                Integer.parseInt(bookingData.get("totalprice")),
-                Boolean.parseBoolean(bookingData.get("depositpaid")),
-                new BookingDates(checkin, checkout),
-                bookingData.get("additionalneeds")
-        );
-    }
-
-
-    private Date parseDate(String dateStr) throws ParseException {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
-        sdf.setLenient(false);
-        return sdf.parse(dateStr);
-    }
-
-    private int parseInt(String value) {
-        return Integer.parseInt(value);
-    }
-
-    private boolean parseBoolean(String value) {
-        return Boolean.parseBoolean(value);
-    }
-
-    public void partialUpdateCreatedBooking(DataTable dataTable, String token) {
+    public void partialUpdateCreatedBooking(List<BookingFieldUpdate> updates, String token) {
         try {
             logger.info("Partially updating created booking");
-            Map<String, Object> updatePayload = createUpdatePayloadFromDataTable(dataTable);
+            Map<String, Object> updatePayload = createUpdatePayload(updates);
             logger.debug("Partial update payload: {}", updatePayload);
             partialUpdateBooking(bookingId, updatePayload, token);
             logger.info("Created booking partially updated successfully");
@@ -367,64 +383,44 @@ public class BookingMethods {
         }
     }
 
-    private Map<String, Object> createUpdatePayloadFromDataTable(DataTable dataTable) {
-        return dataTable.asMaps().stream()
-                .collect(HashMap::new,
-                        (map, row) -> map.put(row.get("field"), row.get("value")),
-                        HashMap::putAll);
+    private Map<String, Object> createUpdatePayload(List<BookingFieldUpdate> updates) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for (BookingFieldUpdate update : updates) {
+            payload.put(update.getField(), update.getValue());
+        }
+        return payload;
     }
 
-    public void createTestBooking(DataTable dataTable) throws ParseException {
+    public void createTestBooking(BookingRequest request) {
         try {
-            logger.info("Creating test booking from DataTable");
-            this.currentBookingRequest = createBookingRequestFromDataTable(dataTable);
+            logger.info("Creating test booking");
+            this.currentBookingRequest = request;
             createBooking();
             scenarioContext.setContext("test_booking_id", getBookingId());
             logger.info("Test booking created successfully");
-        } catch (ParseException e) {
-            handleDateParseError(e);
-        } catch (NumberFormatException e) {
-            handleNumberFormatError(e);
         } catch (Exception e) {
             handleTestBookingCreationError(e);
         }
     }
 
-    private BookingRequest createBookingRequestFromDataTable(DataTable dataTable) throws ParseException {
-        Map<String, String> testBookingData = dataTable.asMaps().get(0);
-        BookingDates dates = new BookingDates(
-                parseDate(testBookingData.get("checkin")),
-                parseDate(testBookingData.get("checkout"))
-        );
-
-        return new BookingRequest(
-                testBookingData.get("firstname"),
-                testBookingData.get("lastname"),
-                parseInt(testBookingData.getOrDefault("totalprice", "100")),
-                parseBoolean(testBookingData.getOrDefault("depositpaid", "true")),
-                dates,
-                testBookingData.getOrDefault("additionalneeds", "Breakfast")
-        );
-    }
-
-    private void handleDateParseError(ParseException e) throws ParseException {
-        logger.error("Date parsing failed while creating test booking: {}", e.getMessage());
-        throw e;
-    }
-
-    private void handleNumberFormatError(NumberFormatException e) {
-        logger.error("Number format exception while creating test booking: {}", e.getMessage());
-        throw new RuntimeException("Invalid number format in booking data", e);
-    }
-
     private void handleTestBookingCreationError(Exception e) {
         logger.error("Failed to create test booking: {}", e.getMessage());
         throw new RuntimeException("Test booking creation failed", e);
     }
 
-    public void prepareBookingDataFromDataTable(DataTable dataTable) throws ParseException {
-        Map<String, String> bookingData = dataTable.asMaps().get(0);
-        this.currentBookingRequest = createBookingRequestFromMap(bookingData);
+    public void prepareBookingData(BookingRequest request) {
+        this.currentBookingRequest = request;
+    }
+
+    public void prepareGeneratedBookingData(long seed) {
+        try {
+            logger.info("Preparing generated booking data with seed: {}", seed);
+            this.currentBookingRequest = new BookingDataGenerator(seed).next();
+            logger.debug("Generated booking for {} {}", currentBookingRequest.getFirstname(), currentBookingRequest.getLastname());
+        } catch (Exception e) {
+            logger.error("Failed to generate booking data: {}", e.getMessage());
+            throw new RuntimeException("Booking data generation failed", e);
+        }
     }
 
 
@@ -448,25 +444,14 @@ public class BookingMethods {
     public void verifyBookingDetailsMatch(Map<String, String> expectedData) {
         try {
             logger.info("Verifying booking details match expected data");
-            verifyPersonalDetails(expectedData);
-            verifyBookingDates(expectedData);
+            assertNoDifferences(EXACT_COMPARATOR.compare(expectedData, JsonCodecs.readTree(response.asByteArray())));
             logger.info("Booking details verification successful");
-        } catch (Exception e) {
+        } catch (AssertionError e) {
             logger.error("Booking details verification failed: {}", e.getMessage());
             throw e;
         }
     }
 
-    private void verifyPersonalDetails(Map<String, String> expectedData) {
-        Assert.assertEquals(expectedData.get("firstname"), response.jsonPath().getString("firstname"));
-        Assert.assertEquals(expectedData.get("lastname"), response.jsonPath().getString("lastname"));
-    }
-
-    private void verifyBookingDates(Map<String, String> expectedData) {
-        Assert.assertEquals(expectedData.get("checkin"), response.jsonPath().getString("bookingdates.checkin"));
-        Assert.assertEquals(expectedData.get("checkout"), response.jsonPath().getString("bookingdates.checkout"));
-    }
-
     public void verifyBookingDatesValid() {
         try {
             logger.info("Verifying booking dates validity");
@@ -512,174 +497,62 @@ public class BookingMethods {
         Assert.assertFalse(checkBookingExists(bookingId));
     }
 
-    public void updateBookingByIdTypeWithData(String idType, DataTable dataTable, String token) throws ParseException {
-        int id = resolveBookingId(idType);
-        Map<String, String> bookingData = dataTable.asMaps().get(0);
-        BookingRequest updateRequest = createBookingRequestFromMap(bookingData);
-        updateBooking(id, updateRequest, token);
+    public void updateBookingByIdType(String idType, BookingRequest updateRequest, String token) {
+        updateBooking(resolveBookingId(idType), updateRequest, token);
     }
 
     public void verifyUpdatedBookingContains(Map<String, String> expectedFields) {
-        int attempts = 0;
-        AssertionError lastError = null;
-
         logger.info("Verifying updated booking fields");
-
-        while (attempts < MAX_VERIFICATION_ATTEMPTS) {
-            attempts++;
-            try {
-                Response response = getBookingById(bookingId);
-                verifyAllFieldsMatch(expectedFields, response);
-                logger.info("Booking fields verified successfully after {} attempts", attempts);
-                return;
-            } catch (AssertionError e) {
-                lastError = e;
-                handleVerificationRetry(attempts, e);
-            }
-        }
-
-        logger.error("Field verification failed after maximum attempts");
-        throw lastError;
-    }
-
-    private void verifyAllFieldsMatch(Map<String, String> expectedFields, Response response) {
-        expectedFields.forEach((field, expectedValue) -> {
-            String actualValue = getFieldValueFromResponse(response, field);
-            Assert.assertEquals(field + " mismatch", expectedValue, actualValue);
-        });
-    }
-
-    private String getFieldValueFromResponse(Response response, String field) {
-        String jsonPath = isDateField(field) ? "bookingdates." + field : field;
-        return response.jsonPath().getString(jsonPath);
-    }
-
-    private boolean isDateField(String field) {
-        return field.equals("checkin") || field.equals("checkout");
-    }
-
-    private void handleVerificationRetry(int attempt, AssertionError error) {
-        if (attempt < MAX_VERIFICATION_ATTEMPTS) {
-            logger.warn("Field verification failed on attempt {}/{} - retrying...",
-                    attempt, MAX_VERIFICATION_ATTEMPTS);
-            sleepWithInterruptHandling(VERIFICATION_RETRY_DELAY_MS);
-        }
+        verifyBookingEventually(actual -> EXACT_COMPARATOR.compare(expectedFields, actual));
     }
 
     public void verifyCompleteUpdate(BookingRequest expectedRequest) {
-        int attempts = 0;
-
         logger.info("Starting complete booking update verification");
+        verifyBookingEventually(actual -> DATE_TOLERANT_COMPARATOR.compare(expectedRequest, actual));
+    }
 
-        while (attempts < MAX_VERIFICATION_ATTEMPTS) {
-            attempts++;
-            try {
-                Response response = getBookingById(bookingId);
-                verifyAllBookingFields(expectedRequest, response);
-                logger.info("Booking update successfully verified after {} attempts", attempts);
+    private void verifyBookingEventually(Function<JsonNode, BookingDiff> comparison) {
+        BookingDiff diff = null;
+        for (int attempt = 1; attempt <= maxVerificationAttempts; attempt++) {
+            Response response = getBookingById(bookingId);
+            diff = comparison.apply(JsonCodecs.readTree(response.asByteArray()));
+            if (diff.isEmpty()) {
+                logger.info("Booking verified successfully after {} attempts", attempt);
                 return;
-            } catch (AssertionError e) {
-                handleVerificationFailure(attempts, e);
-            } catch (Exception e) {
-                handleVerificationException(e);
+            }
+            if (attempt < maxVerificationAttempts) {
+                logger.warn("Attempt {}/{}: {} field(s) differ {} - retrying...",
+                        attempt, maxVerificationAttempts, diff.size(), diff.getPaths());
+                RunMetrics.getInstance().recordVerificationRetry();
+                sleepWithInterruptHandling(verificationRetryDelayMs);
             }
         }
+        logger.error("Booking verification failed after {} attempts: {}", maxVerificationAttempts, diff);
+        assertNoDifferences(diff);
     }
 
-    private void verifyAllBookingFields(BookingRequest expected, Response actualResponse) throws ParseException {
-        verifyPersonalInfoFields(expected, actualResponse);
-        verifyDateFields(expected, actualResponse);
-        verifyPaymentFields(expected, actualResponse);
-        verifyAdditionalNeedsField(expected, actualResponse);
-    }
-
-    private void verifyPersonalInfoFields(BookingRequest expected, Response actualResponse) {
-        verifyFieldEquals("firstname", expected.getFirstname(), actualResponse);
-        verifyFieldEquals("lastname", expected.getLastname(), actualResponse);
-    }
-
-    private void verifyDateFields(BookingRequest expected, Response actualResponse) throws ParseException {
-        verifyDateField("checkin", expected.getBookingdates().getCheckin(), actualResponse);
-        verifyDateField("checkout", expected.getBookingdates().getCheckout(), actualResponse);
-    }
-
-    private void verifyPaymentFields(BookingRequest expected, Response actualResponse) {
-        verifyFieldEquals("totalprice", expected.getTotalprice(), actualResponse);
-        verifyFieldEquals("depositpaid", expected.isDepositpaid(), actualResponse);
-    }
-
-    private void verifyAdditionalNeedsField(BookingRequest expected, Response actualResponse) {
-        verifyFieldEquals("additionalneeds", expected.getAdditionalneeds(), actualResponse);
-    }
-
-    private void verifyFieldEquals(String field, Object expected, Object actual) {
-        Assert.assertEquals(field + " mismatch", expected, actual);
-    }
-
-    private void verifyDateField(String fieldName, Date expectedDate, Response response) throws ParseException {
-        String dateString = response.jsonPath().getString("bookingdates." + fieldName);
-        Date actualDate = parseDate(dateString);
-        long diffMs = Math.abs(expectedDate.getTime() - actualDate.getTime());
-
-        Assert.assertTrue(fieldName + " date difference exceeds tolerance (" + diffMs + "ms)",
-                diffMs <= TimeUnit.DAYS.toMillis(1));
-    }
-
-    private void handleVerificationFailure(int attempt, AssertionError error) {
-        if (attempt >= MAX_VERIFICATION_ATTEMPTS) {
-            logger.error("Verification failed after {} attempts: {}", MAX_VERIFICATION_ATTEMPTS, error.getMessage());
-            throw error;
+    private void assertNoDifferences(BookingDiff diff) {
+        if (!diff.isEmpty()) {
+            throw new AssertionError("Booking does not match expected data, " + diff);
         }
-
-        logger.warn("Attempt {}/{} failed: {} - Retrying...",
-                attempt, MAX_VERIFICATION_ATTEMPTS, error.getMessage());
-        sleepWithInterruptHandling(VERIFICATION_RETRY_DELAY_MS);
-    }
-
-    private void handleVerificationException(Exception e) {
-        logger.error("Unexpected error during booking verification: {}", e.getMessage());
-        throw new RuntimeException("Booking verification failed", e);
     }
 
+    @SuppressWarnings("try")
     private void sleepWithInterruptHandling(long millis) {
-        try {
+        RetrySleepEvent sleepEvent = RetrySleepEvent.start("verification retry", millis);
+        try (WallClockProfiler.Frame ignored = WallClockProfiler.enter("sleep verification retry")) {
             Thread.sleep(millis);
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
             logger.error("Verification process interrupted: {}", ie.getMessage());
             throw new RuntimeException("Verification interrupted", ie);
+        } finally {
+            if (sleepEvent != null) {
+                sleepEvent.commit();
+            }
         }
     }
 
-    public void verifyCompleteUpdateFromDataTable(DataTable dataTable) throws ParseException {
-        try {
-            logger.info("Verifying complete update from DataTable");
-            BookingRequest expectedRequest = createExpectedRequestFromDataTable(dataTable);
-            verifyCompleteUpdate(expectedRequest);
-            logger.info("Complete update from DataTable verified successfully");
-        } catch (Exception e) {
-            logger.error("Failed to verify complete update from DataTable: {}", e.getMessage());
-            throw e;
-        }
-    }
-
-    private BookingRequest createExpectedRequestFromDataTable(DataTable dataTable) throws ParseException {
-        Map<String, String> bookingData = dataTable.asMaps().get(0);
-        BookingDates dates = new BookingDates(
-                parseDate(bookingData.get("checkin")),
-                parseDate(bookingData.get("checkout"))
-        );
-
-        return new BookingRequest(
-                bookingData.get("firstname"),
-                bookingData.get("lastname"),
-                parseInt(bookingData.get("totalprice")),
-                parseBoolean(bookingData.get("depositpaid")),
-                dates,
-                bookingData.get("additionalneeds")
-        );
-    }
-
     public void verifyUpdatedBookingFromDataTable(DataTable dataTable) {
         try {
             logger.info("Verifying updated booking from DataTable");
@@ -693,8 +566,12 @@ public class BookingMethods {
     }
 
     private Map<String, String> createExpectedFieldsFromDataTable(DataTable dataTable) {
-        return dataTable.asMaps().stream()
-                .collect(HashMap::new, (m, v) -> m.put(v.get("field"), v.get("value")), HashMap::putAll);
+        List<Map<String, String>> rows = dataTable.asMaps();
+        if (!dataTable.row(0).contains("field")) {
+            return rows.get(0);
+        }
+        return rows.stream()
+                .collect(LinkedHashMap::new, (m, v) -> m.put(v.get("field"), v.get("value")), HashMap::putAll);
     }
 
     public void verifyStatusCode(int expectedStatusCode) {
@@ -709,6 +586,19 @@ public class BookingMethods {
         }
     }
 
+    public void verifyResponseTimeBelow(long maxMillis) {
+        try {
+            long actualMillis = response.getTimeIn(TimeUnit.MILLISECONDS);
+            logger.info("Verifying response time {} ms is below {} ms", actualMillis, maxMillis);
+            Assert.assertTrue(String.format("Response time was %d ms, expected below %d ms", actualMillis, maxMillis),
+                    actualMillis < maxMillis);
+            logger.info("Response time verified successfully");
+        } catch (AssertionError e) {
+            logger.error("Response time verification failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
     public void verifyBookingIdsListNotEmpty() {
         try {
             logger.info("Verifying booking IDs list is not empty");
@@ -757,25 +647,49 @@ public class BookingMethods {
     }
 
     private void verifyEachBookingMatchesNameFilter(List<Map<String, Integer>> bookings) {
-        bookings.forEach(booking -> {
-            int id = booking.get("bookingid");
-            Response bookingResponse = getBookingById(id);
-            Assert.assertEquals(
-                    scenarioContext.getFilterFirstname(),
-                    bookingResponse.jsonPath().getString("firstname")
-            );
-            Assert.assertEquals(
-                    scenarioContext.getFilterLastname(),
-                    bookingResponse.jsonPath().getString("lastname")
-            );
+        String firstname = scenarioContext.getFilterFirstname();
+        String lastname = scenarioContext.getFilterLastname();
+        Set<Integer> returnedIds = extractBookingIds(bookings);
+        List<Integer> foreignIds = new ArrayList<>();
+        for (int id : returnedIds) {
+            if (!shadowIndex.owns(id)) {
+                foreignIds.add(id);
+                continue;
+            }
+            Assert.assertTrue(String.format("Own booking %d does not match name filter %s %s", id, firstname, lastname),
+                    matchesNameAtFilterTime(id, firstname, lastname));
+        }
+
+        List<Integer> expectedIds = new ArrayList<>(shadowIndex.idsNamed(firstname, lastname, filterSentAtSequence));
+        expectedIds.retainAll(shadowIndex.idsNamed(firstname, lastname, filterReceivedAtSequence));
+        verifyOwnBookingsReturned(expectedIds, returnedIds, booking ->
+                firstname.equals(booking.path("firstname").asText(null))
+                        && lastname.equals(booking.path("lastname").asText(null)));
+
+        foreignIds.forEach(id -> {
+            Response bookingResponse = executeGetRequest(buildBookingPath(id));
+            Assert.assertEquals(firstname, bookingResponse.jsonPath().getString("firstname"));
+            Assert.assertEquals(lastname, bookingResponse.jsonPath().getString("lastname"));
         });
+        logger.info("Name filter checked {} own booking(s) against the shadow index, fetched {} foreign booking(s)",
+                returnedIds.size() - foreignIds.size(), foreignIds.size());
+    }
+
+    private boolean matchesNameAtFilterTime(int id, String firstname, String lastname) {
+        return matchesName(shadowIndex.versionAt(id, filterSentAtSequence), firstname, lastname)
+                || matchesName(shadowIndex.versionAt(id, filterReceivedAtSequence), firstname, lastname);
+    }
+
+    private boolean matchesName(BookingShadowIndex.Version version, String firstname, String lastname) {
+        return version != null && !version.isDeleted()
+                && firstname.equals(version.getFirstname()) && lastname.equals(version.getLastname());
     }
 
     public void verifyFilteredBookingsMatchDates() throws Exception {
         try {
             logger.info("Verifying filtered bookings match dates");
-            Date filterCheckin = parseDate(scenarioContext.getFilterCheckin());
-            Date filterCheckout = parseDate(scenarioContext.getFilterCheckout());
+            LocalDate filterCheckin = LocalDate.parse(scenarioContext.getFilterCheckin());
+            LocalDate filterCheckout = LocalDate.parse(scenarioContext.getFilterCheckout());
 
             List<Map<String, Integer>> bookings = getBookingIdsFromResponse();
             verifyEachBookingMatchesDateFilter(bookings, filterCheckin, filterCheckout);
@@ -786,28 +700,98 @@ public class BookingMethods {
         }
     }
 
-    private void verifyEachBookingMatchesDateFilter(List<Map<String, Integer>> bookings, Date filterCheckin, Date filterCheckout) {
-        bookings.forEach(booking -> {
-            int id = booking.get("bookingid");
-            Response bookingResponse = getBookingById(id);
+    private void verifyEachBookingMatchesDateFilter(List<Map<String, Integer>> bookings, LocalDate filterCheckin, LocalDate filterCheckout) {
+        Set<Integer> returnedIds = extractBookingIds(bookings);
+        List<Integer> foreignIds = new ArrayList<>();
+        for (int id : returnedIds) {
+            if (!shadowIndex.owns(id)) {
+                foreignIds.add(id);
+                continue;
+            }
+            BookingShadowIndex.Version sent = shadowIndex.versionAt(id, filterSentAtSequence);
+            BookingShadowIndex.Version received = shadowIndex.versionAt(id, filterReceivedAtSequence);
+            if (!matchesDates(sent, filterCheckin, filterCheckout)) {
+                verifyDateRange(filterCheckin, filterCheckout, received);
+            }
+        }
+
+        List<Integer> expectedIds = new ArrayList<>(shadowIndex.idsStayingBetween(filterCheckin, filterCheckout, filterSentAtSequence));
+        expectedIds.retainAll(shadowIndex.idsStayingBetween(filterCheckin, filterCheckout, filterReceivedAtSequence));
+        verifyOwnBookingsReturned(expectedIds, returnedIds, booking -> {
+            String checkinStr = booking.path("bookingdates").path("checkin").asText(null);
+            String checkoutStr = booking.path("bookingdates").path("checkout").asText(null);
+            return isValidDate(checkinStr) && isValidDate(checkoutStr)
+                    && LocalDate.parse(checkinStr).isAfter(filterCheckin)
+                    && LocalDate.parse(checkoutStr).isBefore(filterCheckout);
+        });
+
+        foreignIds.forEach(id -> {
+            Response bookingResponse = executeGetRequest(buildBookingPath(id));
             String checkinStr = bookingResponse.jsonPath().getString("bookingdates.checkin");
             String checkoutStr = bookingResponse.jsonPath().getString("bookingdates.checkout");
 
             if (isValidDate(checkinStr) && isValidDate(checkoutStr)) {
                 try {
-                    verifyDateRange(filterCheckin, filterCheckout, checkinStr, checkoutStr);
-                } catch (Exception e) {
+                    verifyDateRange(filterCheckin, filterCheckout, LocalDate.parse(checkinStr), LocalDate.parse(checkoutStr));
+                } catch (DateTimeParseException e) {
                     throw new RuntimeException("Failed to parse dates for booking ID " + id, e);
                 }
             }
         });
+        logger.info("Date filter checked {} own booking(s) against the shadow index, fetched {} foreign booking(s)",
+                returnedIds.size() - foreignIds.size(), foreignIds.size());
+    }
+
+    private boolean matchesDates(BookingShadowIndex.Version version, LocalDate filterCheckin, LocalDate filterCheckout) {
+        if (version == null || version.isDeleted()) {
+            return false;
+        }
+        if (version.getCheckin() == null || version.getCheckout() == null) {
+            return true;
+        }
+        return !version.getCheckin().isBefore(filterCheckin) && !version.getCheckout().isAfter(filterCheckout);
+    }
+
+    private void verifyDateRange(LocalDate filterCheckin, LocalDate filterCheckout, BookingShadowIndex.Version version) {
+        Assert.assertTrue("Deleted own booking returned by filter", version != null && !version.isDeleted());
+        if (version.getCheckin() != null && version.getCheckout() != null) {
+            verifyDateRange(filterCheckin, filterCheckout, version.getCheckin(), version.getCheckout());
+        }
     }
 
-    private void verifyDateRange(Date filterCheckin, Date filterCheckout, String checkinStr, String checkoutStr) throws ParseException {
-        Date checkin = parseDate(checkinStr);
-        Date checkout = parseDate(checkoutStr);
-        Assert.assertFalse("Checkin date should not be before filter", checkin.before(filterCheckin));
-        Assert.assertFalse("Checkout date should not be after filter", checkout.after(filterCheckout));
+    private void verifyDateRange(LocalDate filterCheckin, LocalDate filterCheckout, LocalDate checkin, LocalDate checkout) {
+        Assert.assertFalse("Checkin date should not be before filter", checkin.isBefore(filterCheckin));
+        Assert.assertFalse("Checkout date should not be after filter", checkout.isAfter(filterCheckout));
+    }
+
+    private Set<Integer> extractBookingIds(List<Map<String, Integer>> bookings) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        bookings.forEach(booking -> ids.add(booking.get("bookingid")));
+        return ids;
+    }
+
+    private void verifyOwnBookingsReturned(List<Integer> expectedIds, Set<Integer> returnedIds, Predicate<JsonNode> stillMatches) {
+        List<Integer> missingIds = new ArrayList<>();
+        for (int id : expectedIds) {
+            if (returnedIds.contains(id)) {
+                continue;
+            }
+            Response bookingResponse = executeGetRequest(buildBookingPath(id));
+            if (bookingResponse.getStatusCode() == 404) {
+                logger.debug("Own booking {} no longer exists on the server", id);
+                shadowIndex.recordDeleted(id);
+            } else if (bookingResponse.getStatusCode() != 200) {
+                logger.warn("Could not confirm own booking {} missing from filter response, status {}",
+                        id, bookingResponse.getStatusCode());
+            } else {
+                JsonNode booking = JsonCodecs.readTree(bookingResponse.asByteArray());
+                shadowIndex.recordBooking(id, booking);
+                if (stillMatches.test(booking)) {
+                    missingIds.add(id);
+                }
+            }
+        }
+        Assert.assertTrue("Filter response is missing own matching booking(s): " + missingIds, missingIds.isEmpty());
     }
 
     public void verifyResponseIsEmptyArray() {
@@ -851,21 +835,8 @@ public class BookingMethods {
     }
 
     public void verifyResponseMatchesRequest() {
-        BookingResponse bookingResponse = response.as(BookingResponse.class);
-        BookingRequest createdBooking = bookingResponse.getBooking();
-
-        verifyDatesMatch(
-                currentBookingRequest.getBookingdates().getCheckin(),
-                createdBooking.getBookingdates().getCheckin(),
-                currentBookingRequest.getBookingdates().getCheckout(),
-                createdBooking.getBookingdates().getCheckout()
-        );
-
-        verifyFieldEquals("firstname", currentBookingRequest.getFirstname(), createdBooking.getFirstname());
-        verifyFieldEquals("lastname", currentBookingRequest.getLastname(), createdBooking.getLastname());
-        verifyFieldEquals("totalprice", currentBookingRequest.getTotalprice(), createdBooking.getTotalprice());
-        verifyFieldEquals("depositpaid", currentBookingRequest.isDepositpaid(), createdBooking.isDepositpaid());
-        verifyFieldEquals("additionalneeds", currentBookingRequest.getAdditionalneeds(), createdBooking.getAdditionalneeds());
+        JsonNode createdBooking = JsonCodecs.readTree(response.asByteArray()).get("booking");
+        assertNoDifferences(EXACT_COMPARATOR.compare(currentBookingRequest, createdBooking));
     }
 
     private void verifyPersonalInfoMatch(BookingRequest expected, BookingRequest actual) {
@@ -873,20 +844,6 @@ public class BookingMethods {
         verifyFieldMatch("lastname", expected.getLastname(), actual.getLastname());
     }
 
-    private void verifyDatesMatch(Date expectedCheckin, Date actualCheckin,
-                                  Date expectedCheckout, Date actualCheckout) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
-
-        Assert.assertEquals("checkin date mismatch",
-                sdf.format(expectedCheckin),
-                sdf.format(actualCheckin));
-
-        Assert.assertEquals("checkout date mismatch",
-                sdf.format(expectedCheckout),
-                sdf.format(actualCheckout));
-    }
-
     private void verifyPaymentInfoMatch(BookingRequest expected, BookingRequest actual) {
         verifyFieldMatch("totalprice", expected.getTotalprice(), actual.getTotalprice());
         verifyFieldMatch("depositpaid", expected.isDepositpaid(), actual.isDepositpaid());
@@ -930,7 +887,7 @@ public class BookingMethods {
     }
 
     private int extractBookingIdFromBookingResponse() {
-        return response.as(BookingResponse.class).getBookingid();
+        return JsonCodecs.BOOKING_RESPONSE.read(response.asByteArray()).getBookingid();
     }
 
     private void handleBookingCreationError(RuntimeException e) {
@@ -943,15 +900,15 @@ public class BookingMethods {
         throw new RuntimeException("Booking creation failed", e);
     }
 
-    private Response executeBookingPostRequest(Object body) {
+    private Response executeBookingPostRequest(BookingRequest body) {
         try {
             logger.debug("Executing booking creation request");
-            Response response = RestAssured.given()
-                    .baseUri(TestConfig.getBaseUrl())
+            Response response = ApiRequest.given()
                     .contentType(CONTENT_TYPE)
-                    .body(body)
+                    .body(JsonCodecs.BOOKING_REQUEST.write(body))
                     .post(BOOKING_ENDPOINT);
             logResponseDetails(response);
+            recordCreatedBooking(response);
             return response;
         } catch (Exception e) {
             logger.error("Booking creation request failed: {}", e.getMessage());
@@ -1030,12 +987,26 @@ public class BookingMethods {
         }
     }
 
+    private static String queryKey(String... namesAndValues) {
+        StringBuilder key = new StringBuilder(BOOKING_ENDPOINT);
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            key.append(i == 0 ? '?' : '&').append(namesAndValues[i]);
+            if (namesAndValues[i + 1] != null) {
+                key.append('=').append(URLEncoder.encode(namesAndValues[i + 1], StandardCharsets.UTF_8));
+            }
+        }
+        return key.toString();
+    }
+
+    private Response coalescedGet(String key, long writeSequence, Supplier<Response> exchange) {
+        return coalesceReads ? singleFlight.get(key, writeSequence, exchange) : exchange.get();
+    }
+
     private Response executeGetRequest(String path) {
         try {
             logger.debug("Executing GET request to: {}", path);
-            Response response = RestAssured.given()
-                    .baseUri(TestConfig.getBaseUrl())
-                    .get(path);
+            Response response = coalescedGet(path, shadowIndex.sequence(), () -> ApiRequest.given()
+                    .get(path));
             logResponseDetails(response);
             return response;
         } catch (Exception e) {
@@ -1044,16 +1015,16 @@ public class BookingMethods {
         }
     }
 
-    public void createBasicBooking(String firstname, String lastname, String checkin, String checkout) throws ParseException {
+    public void createBasicBooking(String firstname, String lastname, String checkin, String checkout) {
         BookingDates dates = createBookingDates(checkin, checkout);
         this.currentBookingRequest = createDefaultBookingRequest(firstname, lastname, dates);
         createBooking();
     }
 
-    private BookingDates createBookingDates(String checkin, String checkout) throws ParseException {
+    private BookingDates createBookingDates(String checkin, String checkout) {
         return new BookingDates(
-                parseDate(checkin),
-                parseDate(checkout)
+                BookingTables.parseDate(checkin),
+                BookingTables.parseDate(checkout)
         );
     }
 
@@ -1086,6 +1057,10 @@ public class BookingMethods {
         return this.bookingId;
     }
 
+    public Response getResponse() {
+        return this.response;
+    }
+
     public BookingRequest getCurrentBookingRequest() {
         return this.currentBookingRequest;
     }
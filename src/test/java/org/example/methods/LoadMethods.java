@@ -0,0 +1,137 @@
+package org.example.methods;
+
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.context.ScenarioContext;
+import org.example.data.BookingDataGenerator;
+import org.example.load.BurstResult;
+import org.example.load.ConcurrentBurst;
+import org.example.models.BookingRequest;
+import org.junit.Assert;
+
+import java.util.List;
+import java.util.Set;
+
+public class LoadMethods {
+    private static final Logger logger = LogManager.getLogger(LoadMethods.class);
+    private static final int SUCCESS_STATUS = 200;
+
+    private final ScenarioContext scenarioContext = ScenarioContext.getInstance();
+    private final ConcurrentBurst burst = new ConcurrentBurst();
+    private BurstResult burstResult;
+    private BurstResult verificationResult;
+
+    public void sendConcurrentGetRequestsForCreatedBooking(int requests) {
+        try {
+            int bookingId = getCreatedBookingId();
+            logger.info("Sending {} concurrent GET requests for booking ID: {}", requests, bookingId);
+            this.burstResult = burst.run(requests,
+                    index -> new BookingMethods(false).getBookingById(bookingId),
+                    response -> 0);
+        } catch (Exception e) {
+            logger.error("Concurrent GET burst failed: {}", e.getMessage());
+            throw new RuntimeException("Concurrent GET burst failed", e);
+        }
+    }
+
+    public void createBookingsConcurrently(int users) {
+        try {
+            logger.info("Creating bookings concurrently for {} users", users);
+            BookingRequest[] requests = generateBookingRequests(users);
+            this.burstResult = burst.run(users,
+                    index -> new BookingMethods().submitBooking(requests[index]),
+                    this::extractBookingId);
+            this.verificationResult = null;
+        } catch (Exception e) {
+            logger.error("Concurrent booking creation failed: {}", e.getMessage());
+            throw new RuntimeException("Concurrent booking creation failed", e);
+        }
+    }
+
+    public void verifyAllResponsesHaveStatus(int expectedStatus) {
+        BurstResult result = requireBurstResult();
+        logger.info("Verifying all {} concurrent responses have status {}", result.getRequestCount(), expectedStatus);
+        Assert.assertEquals("Status code distribution: " + result.getStatusDistribution() + ", failures: " + result.getFailures(),
+                result.getRequestCount(), result.countWithStatus(expectedStatus));
+    }
+
+    public void verifyMinimumShareWithStatus(int minimumPercent, int expectedStatus) {
+        BurstResult result = requireBurstResult();
+        double actualPercent = 100.0 * result.countWithStatus(expectedStatus) / result.getRequestCount();
+        logger.info("Verifying at least {}% of responses have status {} (actual {}%)", minimumPercent, expectedStatus, actualPercent);
+        Assert.assertTrue(String.format("Only %.1f%% of responses had status %d, distribution: %s",
+                        actualPercent, expectedStatus, result.getStatusDistribution()),
+                actualPercent >= minimumPercent);
+    }
+
+    public void verifyThroughputAtLeast(double minimumPerSecond) {
+        BurstResult result = requireBurstResult();
+        logger.info("Verifying throughput {} req/s is at least {} req/s", result.getThroughputPerSecond(), minimumPerSecond);
+        Assert.assertTrue(String.format("Throughput was %.1f req/s, expected at least %.1f req/s",
+                        result.getThroughputPerSecond(), minimumPerSecond),
+                result.getThroughputPerSecond() >= minimumPerSecond);
+    }
+
+    public void verifyLatencyPercentileBelow(int percentile, long maxMillis) {
+        BurstResult result = requireBurstResult();
+        double actualMillis = result.percentileMillis(percentile);
+        logger.info("Verifying concurrent p{} latency {} ms is below {} ms", percentile, actualMillis, maxMillis);
+        Assert.assertTrue(String.format("Concurrent p%d latency was %.1f ms, expected below %d ms",
+                percentile, actualMillis, maxMillis), actualMillis < maxMillis);
+    }
+
+    public void verifyNoDuplicateOrLostBookingIds() {
+        BurstResult result = requireBurstResult();
+        Set<Integer> duplicates = result.getDuplicateBookingIds();
+        int withoutId = result.getSuccessfulResponsesWithoutBookingId(SUCCESS_STATUS);
+        Assert.assertTrue("Duplicate booking IDs returned: " + duplicates, duplicates.isEmpty());
+        Assert.assertEquals("Successful creations without a booking ID", 0, withoutId);
+
+        List<Integer> createdIds = result.getCreatedBookingIds();
+        logger.info("Verifying {} concurrently created bookings are retrievable", createdIds.size());
+        this.verificationResult = burst.run(createdIds.size(),
+                index -> new BookingMethods().getBookingById(createdIds.get(index)),
+                response -> 0);
+        Assert.assertEquals("Created bookings not retrievable, status distribution: "
+                        + verificationResult.getStatusDistribution(),
+                createdIds.size(), verificationResult.countWithStatus(SUCCESS_STATUS));
+    }
+
+    public BurstResult getBurstResult() {
+        return burstResult;
+    }
+
+    private BookingRequest[] generateBookingRequests(int users) {
+        BookingDataGenerator generator = new BookingDataGenerator(TestConfig.getLongProperty("load.seed", 42));
+        BookingRequest[] requests = new BookingRequest[users];
+        for (int i = 0; i < users; i++) {
+            requests[i] = generator.next();
+        }
+        return requests;
+    }
+
+    private int extractBookingId(Response response) {
+        if (response.getStatusCode() != SUCCESS_STATUS) {
+            return 0;
+        }
+        Integer bookingId = response.jsonPath().get("bookingid");
+        return bookingId == null ? 0 : bookingId;
+    }
+
+    private int getCreatedBookingId() {
+        Object bookingId = scenarioContext.getContext("test_booking_id");
+        if (bookingId == null) {
+            throw new IllegalStateException("No created booking found in scenario context");
+        }
+        return (int) bookingId;
+    }
+
+    private BurstResult requireBurstResult() {
+        if (burstResult == null) {
+            throw new IllegalStateException("No concurrent burst has been executed in this scenario");
+        }
+        return burstResult;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.methods;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.metrics.EndpointMetrics;
+import org.example.metrics.RollingLatencyWindow;
+import org.example.metrics.RunMetrics;
+import org.junit.Assert;
+
+public class PerformanceMethods {
+    private static final Logger logger = LogManager.getLogger(PerformanceMethods.class);
+
+    public void verifyPercentileOfLastCalls(int percentile, int count, String method, String endpoint, long maxMillis) {
+        try {
+            String endpointKey = method + " " + endpoint;
+            logger.info("Verifying p{} of the last {} {} calls is below {} ms", percentile, count, endpointKey, maxMillis);
+            EndpointMetrics metrics = RunMetrics.getInstance().getEndpointMetrics(endpointKey);
+            Assert.assertNotNull("No calls recorded for " + endpointKey, metrics);
+
+            long[] latest = metrics.getLatencyWindow().latest(count);
+            Assert.assertEquals(String.format("Expected %d recorded %s calls but only %d are available",
+                    count, endpointKey, latest.length), count, latest.length);
+
+            double actualMillis = RollingLatencyWindow.percentileMillis(latest, percentile);
+            logger.debug("p{} of the last {} {} calls: {} ms", percentile, count, endpointKey, actualMillis);
+            Assert.assertTrue(String.format("p%d of the last %d %s calls was %.1f ms, expected below %d ms",
+                    percentile, count, endpointKey, actualMillis, maxMillis), actualMillis < maxMillis);
+            logger.info("Percentile latency verified successfully");
+        } catch (AssertionError e) {
+            logger.error("Percentile latency verification failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -1,18 +1,16 @@
 package org.example.methods;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.config.TestConfig;
+import org.example.http.ApiRequest;
 import org.junit.Assert;
 
 public class PingMethods {
     private static final Logger logger = LogManager.getLogger(PingMethods.class);
 
     public Response healthCheck() {
-        Response response = RestAssured.given()
-                .baseUri(TestConfig.getBaseUrl())
+        Response response = ApiRequest.given()
                 .when()
                 .get("/ping");
 
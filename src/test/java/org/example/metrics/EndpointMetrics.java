@@ -0,0 +1,105 @@
+package org.example.metrics;
+
+import org.example.http.HttpExchange;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointMetrics implements EndpointMetricsMXBean {
+    private final String endpoint;
+    private final RollingLatencyWindow latencyWindow;
+    private final LatencyHistogram runHistogram = new LatencyHistogram();
+    private final LongAdder requestCount = new LongAdder();
+    private final AtomicLong inFlightRequests = new AtomicLong();
+    private final LongAdder serverErrorCount = new LongAdder();
+    private final LongAdder clientErrorCount = new LongAdder();
+    private final LongAdder transportFailureCount = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+
+    public EndpointMetrics(String endpoint, int latencyWindowSize) {
+        this.endpoint = endpoint;
+        this.latencyWindow = new RollingLatencyWindow(latencyWindowSize);
+    }
+
+    void requestStarted() {
+        inFlightRequests.incrementAndGet();
+    }
+
+    void record(HttpExchange exchange) {
+        inFlightRequests.decrementAndGet();
+        requestCount.increment();
+        responseBytes.add(exchange.getResponseBytes());
+        latencyWindow.record(exchange.getDurationNanos());
+        runHistogram.recordNanos(exchange.getDurationNanos());
+        if (exchange.isTransportFailure()) {
+            transportFailureCount.increment();
+        } else if (exchange.isServerError()) {
+            serverErrorCount.increment();
+        } else if (exchange.isClientError()) {
+            clientErrorCount.increment();
+        }
+    }
+
+    public RollingLatencyWindow getLatencyWindow() {
+        return latencyWindow;
+    }
+
+    public LatencyHistogram getRunHistogram() {
+        return runHistogram;
+    }
+
+    @Override
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    @Override
+    public long getServerErrorCount() {
+        return serverErrorCount.sum();
+    }
+
+    @Override
+    public long getClientErrorCount() {
+        return clientErrorCount.sum();
+    }
+
+    @Override
+    public long getTransportFailureCount() {
+        return transportFailureCount.sum();
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latencyWindow.percentileMillis(50);
+    }
+
+    @Override
+    public double getP95Millis() {
+        return latencyWindow.percentileMillis(95);
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latencyWindow.percentileMillis(99);
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latencyWindow.percentileMillis(100);
+    }
+}
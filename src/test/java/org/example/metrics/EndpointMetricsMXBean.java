@@ -0,0 +1,25 @@
+package org.example.metrics;
+
+public interface EndpointMetricsMXBean {
+    String getEndpoint();
+
+    long getRequestCount();
+
+    long getInFlightRequests();
+
+    long getServerErrorCount();
+
+    long getClientErrorCount();
+
+    long getTransportFailureCount();
+
+    long getResponseBytes();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+}
@@ -0,0 +1,40 @@
+package org.example.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class MBeans {
+    private static final Logger logger = LogManager.getLogger(MBeans.class);
+    private static final String DOMAIN = "org.example";
+    private static final ExecutorService REGISTRATION = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mbean-registration");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private MBeans() {
+    }
+
+    public static void register(Object mbean, String properties) {
+        REGISTRATION.execute(() -> registerNow(mbean, properties));
+    }
+
+    private static void registerNow(Object mbean, String properties) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+        } catch (Exception e) {
+            logger.error("Failed to register MBean {}: {}", properties, e.getMessage());
+        }
+    }
+}
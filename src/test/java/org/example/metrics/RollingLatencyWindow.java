@@ -0,0 +1,56 @@
+package org.example.metrics;
+
+import java.util.Arrays;
+
+public class RollingLatencyWindow {
+    private final long[] samplesNanos;
+    private int next;
+    private int size;
+
+    public RollingLatencyWindow(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Latency window capacity must be positive");
+        }
+        this.samplesNanos = new long[capacity];
+    }
+
+    public synchronized void record(long durationNanos) {
+        samplesNanos[next] = durationNanos;
+        next = (next + 1) % samplesNanos.length;
+        if (size < samplesNanos.length) {
+            size++;
+        }
+    }
+
+    public synchronized long[] latest(int count) {
+        int n = Math.min(count, size);
+        long[] latest = new long[n];
+        for (int i = 0; i < n; i++) {
+            int index = Math.floorMod(next - n + i, samplesNanos.length);
+            latest[i] = samplesNanos[index];
+        }
+        return latest;
+    }
+
+    public long[] snapshot() {
+        return latest(Integer.MAX_VALUE);
+    }
+
+    public double percentileMillis(double percentile) {
+        return percentileMillis(snapshot(), percentile);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public static double percentileMillis(long[] samplesNanos, double percentile) {
+        if (samplesNanos.length == 0) {
+            return 0;
+        }
+        long[] sorted = samplesNanos.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.metrics;
+
+import org.example.config.TestConfig;
+import org.example.http.HttpExchange;
+import org.example.http.HttpExchangeListener;
+
+import javax.management.ObjectName;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RunMetrics implements RunMetricsMXBean, HttpExchangeListener {
+    private static final RunMetrics INSTANCE = new RunMetrics();
+
+    private final int latencyWindowSize = TestConfig.getIntProperty("metrics.latency.window", 1024);
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong inFlightRequests = new AtomicLong();
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder verificationRetryCount = new LongAdder();
+    private final LongAdder transportRetryCount = new LongAdder();
+    private final LongAdder retryBudgetRejections = new LongAdder();
+    private final AtomicInteger activeScenarios = new AtomicInteger();
+    private final LongAdder tokensIssued = new LongAdder();
+    private final LongAdder tokenFailures = new LongAdder();
+    private final AtomicLong lastTokenIssuedMillis = new AtomicLong();
+
+    private RunMetrics() {
+        MBeans.register(this, "type=RunMetrics");
+    }
+
+    public static RunMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void onRequestStart(String endpoint) {
+        inFlightRequests.incrementAndGet();
+        endpointMetrics(endpoint).requestStarted();
+    }
+
+    @Override
+    public void onExchange(HttpExchange exchange) {
+        inFlightRequests.decrementAndGet();
+        totalRequests.increment();
+        if (exchange.isTransportFailure() || exchange.isServerError()) {
+            errorCount.increment();
+        }
+        endpointMetrics(exchange.getEndpoint()).record(exchange);
+    }
+
+    public void recordVerificationRetry() {
+        verificationRetryCount.increment();
+    }
+
+    public void recordTransportRetry() {
+        transportRetryCount.increment();
+    }
+
+    public void recordRetryBudgetRejection() {
+        retryBudgetRejections.increment();
+    }
+
+    public void scenarioStarted() {
+        activeScenarios.incrementAndGet();
+    }
+
+    public void scenarioFinished() {
+        activeScenarios.decrementAndGet();
+    }
+
+    public void recordTokenIssued() {
+        tokensIssued.increment();
+        lastTokenIssuedMillis.set(System.currentTimeMillis());
+    }
+
+    public void recordTokenFailure() {
+        tokenFailures.increment();
+    }
+
+    public EndpointMetrics getEndpointMetrics(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    public Collection<EndpointMetrics> getAllEndpointMetrics() {
+        return endpoints.values();
+    }
+
+    @Override
+    public long getTotalRequests() {
+        return totalRequests.sum();
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    @Override
+    public long getVerificationRetryCount() {
+        return verificationRetryCount.sum();
+    }
+
+    @Override
+    public long getTransportRetryCount() {
+        return transportRetryCount.sum();
+    }
+
+    @Override
+    public long getRetryBudgetRejections() {
+        return retryBudgetRejections.sum();
+    }
+
+    @Override
+    public int getActiveScenarios() {
+        return activeScenarios.get();
+    }
+
+    @Override
+    public long getTokensIssued() {
+        return tokensIssued.sum();
+    }
+
+    @Override
+    public long getTokenFailures() {
+        return tokenFailures.sum();
+    }
+
+    @Override
+    public long getSecondsSinceLastTokenIssued() {
+        long issuedAt = lastTokenIssuedMillis.get();
+        return issuedAt == 0 ? -1 : (System.currentTimeMillis() - issuedAt) / 1000;
+    }
+
+    @Override
+    public String getLastTokenIssuedAt() {
+        long issuedAt = lastTokenIssuedMillis.get();
+        return issuedAt == 0 ? "" : Instant.ofEpochMilli(issuedAt).toString();
+    }
+
+    @Override
+    public Map<String, Long> getRequestsPerEndpoint() {
+        Map<String, Long> requests = new TreeMap<>();
+        endpoints.forEach((endpoint, metrics) -> requests.put(endpoint, metrics.getRequestCount()));
+        return requests;
+    }
+
+    private EndpointMetrics endpointMetrics(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, key -> {
+            EndpointMetrics metrics = new EndpointMetrics(key, latencyWindowSize);
+            MBeans.register(metrics, "type=Endpoint,name=" + ObjectName.quote(key));
+            return metrics;
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.metrics;
+
+import java.util.Map;
+
+public interface RunMetricsMXBean {
+    long getTotalRequests();
+
+    long getInFlightRequests();
+
+    long getErrorCount();
+
+    long getVerificationRetryCount();
+
+    long getTransportRetryCount();
+
+    long getRetryBudgetRejections();
+
+    int getActiveScenarios();
+
+    long getTokensIssued();
+
+    long getTokenFailures();
+
+    long getSecondsSinceLastTokenIssued();
+
+    String getLastTokenIssuedAt();
+
+    Map<String, Long> getRequestsPerEndpoint();
+}
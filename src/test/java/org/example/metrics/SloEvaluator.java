@@ -0,0 +1,76 @@
+package org.example.metrics;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.json.JsonCodecs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SloEvaluator {
+    private static final Logger logger = LogManager.getLogger(SloEvaluator.class);
+    private static final ObjectReader reader = JsonCodecs.readerFor(new TypeReference<LinkedHashMap<String, Map<String, Double>>>() {
+    });
+
+    private final Map<String, Map<String, Double>> budgets;
+
+    public SloEvaluator(Map<String, Map<String, Double>> budgets) {
+        this.budgets = budgets;
+    }
+
+    public static SloEvaluator fromConfig() {
+        File sloFile = new File(TestConfig.getProperty("slo.file", "src/test/resources/slo.json"));
+        if (!sloFile.exists()) {
+            logger.warn("SLO file {} not found, no endpoint budgets will be evaluated", sloFile);
+            return new SloEvaluator(Map.of());
+        }
+        try {
+            return new SloEvaluator(reader.readValue(sloFile));
+        } catch (IOException e) {
+            logger.error("Failed to read SLO file {}: {}", sloFile, e.getMessage());
+            throw new RuntimeException("Failed to read SLO file", e);
+        }
+    }
+
+    public List<String> evaluate(RunMetrics metrics) {
+        List<String> violations = new ArrayList<>();
+        budgets.forEach((endpoint, limits) -> {
+            EndpointMetrics endpointMetrics = metrics.getEndpointMetrics(endpoint);
+            if (endpointMetrics == null || endpointMetrics.getRunHistogram().getCount() == 0) {
+                logger.info("SLO for {} skipped, endpoint was not called in this run", endpoint);
+                return;
+            }
+            LatencyHistogram histogram = endpointMetrics.getRunHistogram();
+            limits.forEach((statistic, limitMillis) -> {
+                double actualMillis = statisticMillis(histogram, statistic);
+                logger.info("SLO {} {}: {} ms (budget {} ms, {} calls)",
+                        endpoint, statistic, String.format("%.1f", actualMillis), limitMillis, histogram.getCount());
+                if (actualMillis > limitMillis) {
+                    violations.add(String.format("%s %s was %.1f ms, budget %.1f ms (%d calls)",
+                            endpoint, statistic, actualMillis, limitMillis, histogram.getCount()));
+                }
+            });
+        });
+        return violations;
+    }
+
+    private double statisticMillis(LatencyHistogram histogram, String statistic) {
+        if (statistic.equals("max")) {
+            return histogram.getMaxMillis();
+        }
+        if (statistic.equals("mean")) {
+            return histogram.getMeanMillis();
+        }
+        if (statistic.matches("p\\d+(\\.\\d+)?")) {
+            return histogram.percentileMillis(Double.parseDouble(statistic.substring(1)));
+        }
+        throw new IllegalArgumentException("Unsupported SLO statistic: " + statistic);
+    }
+}
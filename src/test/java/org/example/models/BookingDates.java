@@ -19,15 +19,19 @@ public class BookingDates {
     public BookingDates(
             @JsonProperty("checkin") Date checkin,
             @JsonProperty("checkout") Date checkout) {
-        this.checkin = checkin;
-        this.checkout = checkout;
+        this.checkin = copy(checkin);
+        this.checkout = copy(checkout);
     }
 
     public Date getCheckin() {
-        return checkin;
+        return copy(checkin);
     }
 
     public Date getCheckout() {
-        return checkout;
+        return copy(checkout);
+    }
+
+    private static Date copy(Date date) {
+        return date == null ? null : new Date(date.getTime());
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package org.example.models;
+
+import java.util.Objects;
+
+public class BookingFieldUpdate {
+    private final String field;
+    private final String value;
+
+    public BookingFieldUpdate(String field, String value) {
+        this.field = Objects.requireNonNull(field, "field cannot be null");
+        this.value = value;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return field + "=" + value;
+    }
+}
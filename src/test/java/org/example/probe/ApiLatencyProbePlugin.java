@@ -0,0 +1,72 @@
+package org.example.probe;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Locale;
+
+public class ApiLatencyProbePlugin implements ConcurrentEventListener {
+    private static final Logger logger = LogManager.getLogger(ApiLatencyProbePlugin.class);
+
+    private final boolean enabled = TestConfig.getBooleanProperty("probe.enabled", false);
+    private final Path outputFile;
+
+    public ApiLatencyProbePlugin() {
+        this(TestConfig.getProperty("probe.output", "target/cucumber-reports/api-latency.csv"));
+    }
+
+    public ApiLatencyProbePlugin(String outputFile) {
+        this.outputFile = Paths.get(outputFile);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!enabled) {
+            return;
+        }
+        publisher.registerHandlerFor(TestRunStarted.class, event ->
+                ApiLatencyProber.getInstance().start(TestConfig.getLongProperty("probe.interval.ms", 1000)));
+        publisher.registerHandlerFor(TestRunFinished.class, event -> onTestRunFinished());
+    }
+
+    private void onTestRunFinished() {
+        ApiLatencyProber prober = ApiLatencyProber.getInstance();
+        prober.stop();
+        ApiLatencyProber.Baseline run = prober.baselineOfRun();
+        logger.info("API baseline over the run: GET /ping median {} ms, max {} ms ({} probe(s), {} failed)",
+                format(run.getMedianMillis()), format(run.getMaxMillis()), run.getSamples(), run.getFailures());
+
+        ApiLatencyProber.Series series = prober.snapshot();
+        try {
+            if (outputFile.getParent() != null) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                writer.write("timestamp,latency_ms,status\n");
+                for (int i = 0; i < series.size(); i++) {
+                    writer.write(Instant.ofEpochMilli(series.getTimestampMs(i)) + ","
+                            + format(series.getLatencyNanos(i) / 1_000_000.0) + "," + series.getStatus(i) + "\n");
+                }
+            }
+            logger.info("API latency time series written to {}", outputFile);
+        } catch (IOException e) {
+            logger.error("Failed to write API latency time series to {}: {}", outputFile, e.getMessage());
+        }
+    }
+
+    static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.probe;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.metrics.LatencyHistogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class ApiLatencyProber {
+    private static final Logger logger = LogManager.getLogger(ApiLatencyProber.class);
+    private static final ApiLatencyProber INSTANCE = new ApiLatencyProber();
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int FAILED = -1;
+    private static final String PING_ENDPOINT = "/ping";
+
+    private long[] timestampsMs = new long[INITIAL_CAPACITY];
+    private long[] latenciesNanos = new long[INITIAL_CAPACITY];
+    private int[] statuses = new int[INITIAL_CAPACITY];
+    private int size;
+    private long intervalMs;
+    private ScheduledExecutorService scheduler;
+    private HttpClient client;
+    private HttpRequest ping;
+
+    private ApiLatencyProber() {
+    }
+
+    public static ApiLatencyProber getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void start(long intervalMs) {
+        if (scheduler != null) {
+            return;
+        }
+        this.intervalMs = intervalMs;
+        size = 0;
+        Duration timeout = Duration.ofMillis(Math.max(intervalMs, 1000) * 5);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        ping = HttpRequest.newBuilder(URI.create(stripTrailingSlash(TestConfig.getBaseUrl()) + PING_ENDPOINT))
+                .timeout(timeout)
+                .GET()
+                .build();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-latency-prober");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::probeSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Probing GET {} every {} ms for the API baseline latency", ping.uri(), intervalMs);
+    }
+
+    public void stop() {
+        ScheduledExecutorService running;
+        HttpClient probeClient;
+        synchronized (this) {
+            running = scheduler;
+            probeClient = client;
+            scheduler = null;
+        }
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            running.awaitTermination(Math.max(intervalMs, 1000) * 5 + intervalMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            probeClient.close();
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    public synchronized Baseline baselineBetween(long fromEpochMillis, long toEpochMillis) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int failures = 0;
+        long from = fromEpochMillis - intervalMs;
+        for (int i = 0; i < size; i++) {
+            if (timestampsMs[i] < from || timestampsMs[i] > toEpochMillis) {
+                continue;
+            }
+            if (statuses[i] == FAILED) {
+                failures++;
+            } else {
+                histogram.recordNanos(latenciesNanos[i]);
+            }
+        }
+        return new Baseline(histogram, failures);
+    }
+
+    public synchronized Baseline baselineOfRun() {
+        return baselineBetween(Long.MIN_VALUE + intervalMs, Long.MAX_VALUE);
+    }
+
+    public synchronized Series snapshot() {
+        return new Series(Arrays.copyOf(timestampsMs, size), Arrays.copyOf(latenciesNanos, size),
+                Arrays.copyOf(statuses, size));
+    }
+
+    private void probeSafely() {
+        long startedMs = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        int status;
+        try {
+            status = client.send(ping, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            logger.warn("API latency probe failed: {}", e.getMessage());
+            status = FAILED;
+        }
+        record(startedMs, System.nanoTime() - startNanos, status);
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private synchronized void record(long timestampMs, long latencyNanos, int status) {
+        if (size == timestampsMs.length) {
+            timestampsMs = Arrays.copyOf(timestampsMs, size * 2);
+            latenciesNanos = Arrays.copyOf(latenciesNanos, size * 2);
+            statuses = Arrays.copyOf(statuses, size * 2);
+        }
+        timestampsMs[size] = timestampMs;
+        latenciesNanos[size] = latencyNanos;
+        statuses[size] = status;
+        size++;
+    }
+
+    public static final class Baseline {
+        private final LatencyHistogram histogram;
+        private final int failures;
+
+        Baseline(LatencyHistogram histogram, int failures) {
+            this.histogram = histogram;
+            this.failures = failures;
+        }
+
+        public long getSamples() {
+            return histogram.getCount();
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public double getMedianMillis() {
+            return histogram.percentileMillis(50);
+        }
+
+        public double getMaxMillis() {
+            return histogram.getMaxMillis();
+        }
+    }
+
+    public static final class Series {
+        private final long[] timestampsMs;
+        private final long[] latenciesNanos;
+        private final int[] statuses;
+
+        Series(long[] timestampsMs, long[] latenciesNanos, int[] statuses) {
+            this.timestampsMs = timestampsMs;
+            this.latenciesNanos = latenciesNanos;
+            this.statuses = statuses;
+        }
+
+        public int size() {
+            return timestampsMs.length;
+        }
+
+        public long getTimestampMs(int index) {
+            return timestampsMs[index];
+        }
+
+        public long getLatencyNanos(int index) {
+            return latenciesNanos[index];
+        }
+
+        public int getStatus(int index) {
+            return statuses[index];
+        }
+    }
+}
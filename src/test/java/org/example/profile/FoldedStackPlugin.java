@@ -0,0 +1,119 @@
+package org.example.profile;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FoldedStackPlugin implements ConcurrentEventListener {
+    private static final Logger logger = LogManager.getLogger(FoldedStackPlugin.class);
+    private static final int TOP_FRAMES_LOGGED = 10;
+
+    private final Path outputFile;
+    private final Map<UUID, WallClockProfiler.Frame> scenarioFrames = new ConcurrentHashMap<>();
+    private final Map<UUID, WallClockProfiler.Frame> stepFrames = new ConcurrentHashMap<>();
+
+    public FoldedStackPlugin() {
+        this(TestConfig.getProperty("profile.output", "target/cucumber-reports/profile.folded"));
+    }
+
+    public FoldedStackPlugin(String outputFile) {
+        this.outputFile = Paths.get(outputFile);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> WallClockProfiler.start());
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> onTestRunFinished());
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        TestCase testCase = event.getTestCase();
+        WallClockProfiler.Frame featureFrame = WallClockProfiler.enter(featureName(testCase));
+        WallClockProfiler.enter(testCase.getName());
+        scenarioFrames.put(testCase.getId(), featureFrame);
+    }
+
+    private void onTestStepStarted(TestStepStarted event) {
+        stepFrames.put(event.getTestStep().getId(), WallClockProfiler.enter(describe(event.getTestStep())));
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        WallClockProfiler.Frame frame = stepFrames.remove(event.getTestStep().getId());
+        if (frame != null) {
+            frame.close();
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        WallClockProfiler.Frame frame = scenarioFrames.remove(event.getTestCase().getId());
+        if (frame != null) {
+            frame.close();
+        }
+    }
+
+    private void onTestRunFinished() {
+        Map<String, Long> folded = WallClockProfiler.stop();
+        try {
+            if (outputFile.getParent() != null) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> entry : folded.entrySet()) {
+                    if (entry.getValue() > 0) {
+                        writer.write(entry.getKey() + " " + entry.getValue() + "\n");
+                    }
+                }
+            }
+            logger.info("Folded wall-clock stacks (microseconds) written to {}", outputFile);
+        } catch (IOException e) {
+            logger.error("Failed to write folded stacks to {}: {}", outputFile, e.getMessage());
+        }
+        folded.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(TOP_FRAMES_LOGGED)
+                .forEach(entry -> logger.info("{} ms self  {}", entry.getValue() / 1000, entry.getKey()));
+    }
+
+    private static String featureName(TestCase testCase) {
+        String uri = testCase.getUri().toString();
+        int features = uri.lastIndexOf("features/");
+        return features >= 0 ? uri.substring(features + "features/".length()) : uri;
+    }
+
+    private static String describe(TestStep testStep) {
+        if (testStep instanceof PickleStepTestStep) {
+            PickleStepTestStep pickleStep = (PickleStepTestStep) testStep;
+            return pickleStep.getStep().getKeyword() + pickleStep.getStep().getText();
+        }
+        if (testStep instanceof HookTestStep) {
+            return "Hook " + ((HookTestStep) testStep).getHookType() + " " + testStep.getCodeLocation();
+        }
+        return testStep.getCodeLocation();
+    }
+}
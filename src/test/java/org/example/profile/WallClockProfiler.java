@@ -0,0 +1,124 @@
+package org.example.profile;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class WallClockProfiler {
+    private static final String CALLER_PACKAGE = "org.example.methods.";
+    private static final Frame NOOP = new Frame(null, null, 0, true);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Map<String, LongAdder> selfMicrosByStack = new ConcurrentHashMap<>();
+    private static final InheritableThreadLocal<Deque<Frame>> stacks = new InheritableThreadLocal<>() {
+        @Override
+        protected Deque<Frame> initialValue() {
+            return new ArrayDeque<>();
+        }
+
+        @Override
+        protected Deque<Frame> childValue(Deque<Frame> parentValue) {
+            Deque<Frame> inherited = new ArrayDeque<>();
+            Frame top = parentValue.peekLast();
+            if (top != null) {
+                inherited.addLast(new Frame(null, top.path, 0, true));
+            }
+            return inherited;
+        }
+    };
+    private static volatile boolean enabled;
+
+    private WallClockProfiler() {
+    }
+
+    public static void start() {
+        selfMicrosByStack.clear();
+        enabled = true;
+    }
+
+    public static Map<String, Long> stop() {
+        enabled = false;
+        Map<String, Long> folded = new TreeMap<>();
+        selfMicrosByStack.forEach((stack, micros) -> folded.put(stack, micros.sum()));
+        return folded;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static Frame enter(String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Deque<Frame> stack = stacks.get();
+        Frame parent = stack.peekLast();
+        String frameName = sanitize(name);
+        Frame frame = new Frame(stack, parent == null ? frameName : parent.path + ";" + frameName, System.nanoTime(), false);
+        stack.addLast(frame);
+        return frame;
+    }
+
+    public static Frame enterRequest(String endpoint) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Optional<String> caller = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(CALLER_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(CALLER_PACKAGE.length()) + "." + frame.getMethodName()));
+        if (caller.isEmpty()) {
+            return enter(endpoint);
+        }
+        Frame callerFrame = enter(caller.get());
+        enter(endpoint);
+        return callerFrame;
+    }
+
+    private static String sanitize(String name) {
+        return name.replace(';', ',').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    public static final class Frame implements AutoCloseable {
+        private final Deque<Frame> stack;
+        private final String path;
+        private final long startNanos;
+        private final boolean inherited;
+        private long childNanos;
+
+        private Frame(Deque<Frame> stack, String path, long startNanos, boolean inherited) {
+            this.stack = stack;
+            this.path = path;
+            this.startNanos = startNanos;
+            this.inherited = inherited;
+        }
+
+        @Override
+        public void close() {
+            if (stack == null || !stack.contains(this)) {
+                return;
+            }
+            long now = System.nanoTime();
+            Frame popped;
+            do {
+                popped = stack.removeLast();
+                popped.finish(now, stack.peekLast());
+            } while (popped != this);
+        }
+
+        private void finish(long endNanos, Frame parent) {
+            if (inherited) {
+                return;
+            }
+            long durationNanos = endNanos - startNanos;
+            long selfNanos = Math.max(0, durationNanos - childNanos);
+            selfMicrosByStack.computeIfAbsent(path, key -> new LongAdder()).add(selfNanos / 1_000);
+            if (parent != null && !parent.inherited) {
+                parent.childNanos += durationNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.replay;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+public class AccessLogEntry {
+    private final long timestampMillis;
+    private final String method;
+    private final String path;
+    private final String query;
+
+    public AccessLogEntry(long timestampMillis, String method, String path, String query) {
+        this.timestampMillis = timestampMillis;
+        this.method = method;
+        this.path = path;
+        this.query = query;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public String queryParameter(String name) {
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals >= 0 ? pair.substring(0, equals) : pair;
+            if (key.equals(name)) {
+                return equals >= 0 ? URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8) : "";
+            }
+        }
+        return null;
+    }
+}
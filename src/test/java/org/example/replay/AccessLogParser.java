@@ -0,0 +1,112 @@
+package org.example.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.json.JsonCodecs;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class AccessLogParser {
+    private static final Pattern COMMON_LOG = Pattern.compile(
+            "^\\S+ \\S+ \\S+ \\[([^\\]]+)] \"([A-Z]+) (\\S+)[^\"]*\" \\d{3} .*$");
+    private static final DateTimeFormatter COMMON_LOG_TIME =
+            DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.ENGLISH);
+    private static final String[] METHOD_FIELDS = {"method", "request_method", "verb"};
+    private static final String[] PATH_FIELDS = {"path", "uri", "url", "request_uri"};
+    private static final String[] TIME_FIELDS = {"timestamp", "time", "@timestamp", "ts"};
+
+    public AccessLogEntry parse(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return trimmed.charAt(0) == '{' ? parseJson(trimmed) : parseCommon(trimmed);
+    }
+
+    private AccessLogEntry parseCommon(String line) {
+        Matcher matcher = COMMON_LOG.matcher(line);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            long timestamp = OffsetDateTime.parse(matcher.group(1), COMMON_LOG_TIME).toInstant().toEpochMilli();
+            return entry(timestamp, matcher.group(2), matcher.group(3));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private AccessLogEntry parseJson(String line) {
+        JsonNode node;
+        try {
+            node = JsonCodecs.readTree(line.getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            return null;
+        }
+        JsonNode method = firstPresent(node, METHOD_FIELDS);
+        JsonNode target = firstPresent(node, PATH_FIELDS);
+        JsonNode time = firstPresent(node, TIME_FIELDS);
+        if (method == null || target == null || time == null) {
+            return null;
+        }
+        try {
+            long timestamp = time.isNumber() ? epochMillis(time) : Instant.parse(time.asText()).toEpochMilli();
+            return entry(timestamp, method.asText().toUpperCase(Locale.ROOT), target.asText());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static AccessLogEntry entry(long timestamp, String method, String target) {
+        String pathAndQuery = target;
+        int scheme = pathAndQuery.indexOf("://");
+        if (scheme >= 0) {
+            int pathStart = pathAndQuery.indexOf('/', scheme + 3);
+            pathAndQuery = pathStart >= 0 ? pathAndQuery.substring(pathStart) : "/";
+        }
+        int queryStart = pathAndQuery.indexOf('?');
+        String path = queryStart >= 0 ? pathAndQuery.substring(0, queryStart) : pathAndQuery;
+        if (!hasParseableIds(path)) {
+            return null;
+        }
+        return queryStart >= 0
+                ? new AccessLogEntry(timestamp, method, pathAndQuery.substring(0, queryStart), pathAndQuery.substring(queryStart + 1))
+                : new AccessLogEntry(timestamp, method, pathAndQuery, null);
+    }
+
+    private static boolean hasParseableIds(String path) {
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty() && segment.chars().allMatch(Character::isDigit)) {
+                try {
+                    Long.parseLong(segment);
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static long epochMillis(JsonNode time) {
+        if (time.isIntegralNumber() && time.asLong() > 100_000_000_000L) {
+            return time.asLong();
+        }
+        return Math.round(time.asDouble() * 1000);
+    }
+
+    private static JsonNode firstPresent(JsonNode node, String[] fields) {
+        for (String field : fields) {
+            JsonNode value = node.get(field);
+            if (value != null && !value.isNull()) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,311 @@
+package org.example.replay;
+
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.data.BookingDataGenerator;
+import org.example.http.EndpointTemplates;
+import org.example.index.BookingShadowIndex;
+import org.example.json.JsonCodecs;
+import org.example.methods.AuthMethods;
+import org.example.methods.BookingMethods;
+import org.example.methods.PingMethods;
+import org.example.metrics.LatencyHistogram;
+import org.example.models.BookingRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+public class AccessLogReplayer {
+    private static final Logger logger = LogManager.getLogger(AccessLogReplayer.class);
+    private static final long PROGRESS_EVERY = 10_000;
+    private static final String OTHER_ENDPOINTS = "other unmapped endpoints";
+
+    private final Path logFile = Paths.get(TestConfig.getProperty("replay.log", "access.log"));
+    private final double speed = TestConfig.getDoubleProperty("replay.speed", 1.0);
+    private final long limit = TestConfig.getLongProperty("replay.limit", 0);
+    private final int maxInFlight = TestConfig.getIntProperty("replay.max.in.flight", 64);
+    private final int indexMaxRows = TestConfig.getIntProperty("replay.index.max.rows", 100_000);
+    private final int maxUnmappedEndpoints = TestConfig.getIntProperty("replay.unmapped.max.endpoints", 100);
+    private final Path outputFile = Paths.get(TestConfig.getProperty("replay.output", "target/cucumber-reports/replay.json"));
+
+    private final AccessLogParser parser = new AccessLogParser();
+    private final BookingIdMapper idMapper = new BookingIdMapper(
+            TestConfig.getIntProperty("replay.pool.size", 200),
+            TestConfig.getIntProperty("replay.id.map.capacity", 10_000));
+    private final BookingDataGenerator generator = new BookingDataGenerator(TestConfig.getLongProperty("replay.seed", 42));
+    private final PingMethods pingMethods = new PingMethods();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> unmapped = new ConcurrentHashMap<>();
+    private volatile String token;
+
+    public static void main(String[] args) {
+        System.exit(new AccessLogReplayer().run());
+    }
+
+    public int run() {
+        if (!Files.isRegularFile(logFile)) {
+            logger.error("Access log {} not found, set replay.log", logFile);
+            return 1;
+        }
+        logger.info("Replaying {} at {}", logFile, speed > 0 ? speed + "x original timing" : "maximum rate");
+        token = new AuthMethods().generateValidToken();
+
+        long replayed = 0;
+        long skipped = 0;
+        long maxLagMs = 0;
+        long firstTimestamp = Long.MIN_VALUE;
+        long startNanos = System.nanoTime();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        try (BufferedReader reader = open(logFile);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String line;
+            while ((line = reader.readLine()) != null && (limit <= 0 || replayed < limit)) {
+                AccessLogEntry entry = parser.parse(line);
+                if (entry == null) {
+                    skipped++;
+                    continue;
+                }
+                if (firstTimestamp == Long.MIN_VALUE) {
+                    firstTimestamp = entry.getTimestampMillis();
+                }
+                if (speed > 0) {
+                    long dueNanos = startNanos + (long) ((entry.getTimestampMillis() - firstTimestamp) * 1_000_000 / speed);
+                    long aheadNanos = dueNanos - System.nanoTime();
+                    if (aheadNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(aheadNanos);
+                    } else {
+                        maxLagMs = Math.max(maxLagMs, -aheadNanos / 1_000_000);
+                    }
+                }
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        replay(entry);
+                    } catch (RuntimeException e) {
+                        String endpoint = EndpointTemplates.of(entry.getMethod(), entry.getPath());
+                        logger.debug("Could not replay {}: {}", endpoint, e.getMessage());
+                        errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                replayed++;
+                if (replayed % PROGRESS_EVERY == 0) {
+                    logger.info("Replayed {} request(s), {} line(s) skipped", replayed, skipped);
+                }
+                if (BookingShadowIndex.getInstance().rowCount() > indexMaxRows) {
+                    BookingShadowIndex.getInstance().clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read access log " + logFile, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while replaying " + logFile, e);
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        logger.info("Replayed {} request(s) in {} ms, {} unparseable line(s) skipped, {} booking(s) in the ID pool",
+                replayed, elapsedMs, skipped, idMapper.size());
+        if (speed > 0 && maxLagMs > 0) {
+            logger.warn("Replay fell behind the original timing by up to {} ms; raise replay.max.in.flight or lower replay.speed",
+                    maxLagMs);
+        }
+        unmapped.forEach((endpoint, count) ->
+                logger.warn("{} request(s) to {} have no matching operation and were not replayed", count.sum(), endpoint));
+        writeReport(replayed, skipped, elapsedMs, maxLagMs);
+        return 0;
+    }
+
+    private void replay(AccessLogEntry entry) {
+        String endpoint = EndpointTemplates.of(entry.getMethod(), entry.getPath());
+        switch (endpoint) {
+            case "GET /ping":
+                timed(endpoint, pingMethods::healthCheck);
+                break;
+            case "POST /auth":
+                timed(endpoint, () -> {
+                    token = new AuthMethods().generateValidToken();
+                    return null;
+                });
+                break;
+            case "POST /booking":
+                BookingRequest booking = nextBooking();
+                Response created = timed(endpoint, () -> new BookingMethods(false).submitBooking(booking));
+                if (created != null && created.getStatusCode() == 200) {
+                    idMapper.created(created.jsonPath().getInt("bookingid"));
+                }
+                break;
+            case "GET /booking":
+                timed(endpoint, () -> listBookings(entry));
+                break;
+            case "GET /booking/{id}":
+                int readId = ownBookingId(entry);
+                timed(endpoint, () -> new BookingMethods(false).getBookingById(readId));
+                break;
+            case "PUT /booking/{id}":
+                int updateId = ownBookingId(entry);
+                BookingRequest update = nextBooking();
+                timed(endpoint, () -> new BookingMethods(false).updateBooking(updateId, update, token));
+                break;
+            case "PATCH /booking/{id}":
+                int patchId = ownBookingId(entry);
+                Map<String, Object> fields = new HashMap<>();
+                fields.put("firstname", nextBooking().getFirstname());
+                timed(endpoint, () -> {
+                    BookingMethods methods = new BookingMethods(false);
+                    methods.partialUpdateBooking(patchId, fields, token);
+                    return methods.getResponse();
+                });
+                break;
+            case "DELETE /booking/{id}":
+                int deleteId = ownBookingId(entry);
+                idMapper.deleted(deleteId);
+                timed(endpoint, () -> new BookingMethods(false).deleteBooking(deleteId, token));
+                break;
+            default:
+                recordUnmapped(endpoint);
+        }
+    }
+
+    private void recordUnmapped(String endpoint) {
+        LongAdder count = unmapped.get(endpoint);
+        if (count == null) {
+            synchronized (unmapped) {
+                String bucket = unmapped.size() < maxUnmappedEndpoints ? endpoint : OTHER_ENDPOINTS;
+                count = unmapped.computeIfAbsent(bucket, key -> new LongAdder());
+            }
+        }
+        count.increment();
+    }
+
+    private Response listBookings(AccessLogEntry entry) {
+        BookingMethods methods = new BookingMethods(false);
+        String firstname = entry.queryParameter("firstname");
+        String lastname = entry.queryParameter("lastname");
+        String checkin = entry.queryParameter("checkin");
+        String checkout = entry.queryParameter("checkout");
+        if (firstname != null || lastname != null) {
+            methods.getBookingIdsWithFilters(firstname, lastname);
+        } else if (checkin != null || checkout != null) {
+            methods.getBookingIdsWithDateFilters(checkin, checkout);
+        } else {
+            methods.getBookingIds();
+        }
+        return methods.getResponse();
+    }
+
+    private int ownBookingId(AccessLogEntry entry) {
+        String path = entry.getPath();
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        String lastSegment = path.substring(path.lastIndexOf('/', end - 1) + 1, end);
+        return idMapper.resolve(Long.hashCode(Long.parseLong(lastSegment)), this::createOwnBooking);
+    }
+
+    private int createOwnBooking() {
+        Response response = new BookingMethods(false).submitBooking(nextBooking());
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Failed to create a booking to stand in for a logged ID: HTTP "
+                    + response.getStatusCode());
+        }
+        return response.jsonPath().getInt("bookingid");
+    }
+
+    private Response timed(String endpoint, Supplier<Response> operation) {
+        long start = System.nanoTime();
+        Response response = null;
+        boolean failed;
+        try {
+            response = operation.get();
+            failed = response != null && response.getStatusCode() >= 400;
+        } catch (RuntimeException e) {
+            logger.debug("Replayed {} failed: {}", endpoint, e.getMessage());
+            failed = true;
+        }
+        histograms.computeIfAbsent(endpoint, key -> new LatencyHistogram()).recordNanos(System.nanoTime() - start);
+        if (failed) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+        return response;
+    }
+
+    private synchronized BookingRequest nextBooking() {
+        return generator.next();
+    }
+
+    private void writeReport(long replayed, long skipped, long elapsedMs, long maxLagMs) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Set<String> replayedEndpoints = new TreeSet<>(histograms.keySet());
+        replayedEndpoints.addAll(errors.keySet());
+        for (String endpoint : replayedEndpoints) {
+            LatencyHistogram histogram = histograms.getOrDefault(endpoint, new LatencyHistogram());
+            long failed = errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0;
+            logger.info("{}: n={}, p50 {} ms, p90 {} ms, p99 {} ms, max {} ms, {} error(s)", endpoint,
+                    histogram.getCount(), histogram.percentileMillis(50), histogram.percentileMillis(90),
+                    histogram.percentileMillis(99), histogram.getMaxMillis(), failed);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getCount());
+            summary.put("errors", failed);
+            summary.put("p50Millis", histogram.percentileMillis(50));
+            summary.put("p90Millis", histogram.percentileMillis(90));
+            summary.put("p99Millis", histogram.percentileMillis(99));
+            summary.put("maxMillis", histogram.getMaxMillis());
+            endpoints.put(endpoint, summary);
+        }
+        Map<String, Object> unmappedCounts = new TreeMap<>();
+        unmapped.forEach((endpoint, count) -> unmappedCounts.put(endpoint, count.sum()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("log", logFile.toString());
+        report.put("speed", speed);
+        report.put("replayed", replayed);
+        report.put("skippedLines", skipped);
+        report.put("elapsedMillis", elapsedMs);
+        report.put("maxLagMillis", maxLagMs);
+        report.put("endpoints", endpoints);
+        report.put("unmapped", unmappedCounts);
+        try {
+            if (outputFile.getParent() != null) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            Files.write(outputFile, JsonCodecs.writeFields(report));
+            logger.info("Replay report written to {}", outputFile);
+        } catch (IOException e) {
+            logger.error("Failed to write replay report {}: {}", outputFile, e.getMessage());
+        }
+    }
+
+    private static BufferedReader open(Path file) throws IOException {
+        InputStream input = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            input = new GZIPInputStream(input, 1 << 16);
+        }
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+    }
+}
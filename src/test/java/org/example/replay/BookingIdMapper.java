@@ -0,0 +1,65 @@
+package org.example.replay;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+public class BookingIdMapper {
+    private final int poolSize;
+    private final List<Integer> pool = new ArrayList<>();
+    private final Set<Integer> live = new HashSet<>();
+    private final Map<Integer, Integer> mapping;
+
+    public BookingIdMapper(int poolSize, int mappingCapacity) {
+        this.poolSize = poolSize;
+        this.mapping = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > mappingCapacity;
+            }
+        };
+    }
+
+    public int resolve(int originalId, IntSupplier createBooking) {
+        synchronized (this) {
+            Integer mapped = mapping.get(originalId);
+            if (mapped != null && live.contains(mapped)) {
+                return mapped;
+            }
+            if (pool.size() >= poolSize) {
+                int reused = pool.get(Math.floorMod(Integer.hashCode(originalId), pool.size()));
+                mapping.put(originalId, reused);
+                return reused;
+            }
+        }
+        int created = createBooking.getAsInt();
+        synchronized (this) {
+            created(created);
+            mapping.put(originalId, created);
+        }
+        return created;
+    }
+
+    public synchronized void created(int bookingId) {
+        if (live.add(bookingId)) {
+            pool.add(bookingId);
+        }
+        if (pool.size() > poolSize) {
+            live.remove(pool.remove(0));
+        }
+    }
+
+    public synchronized void deleted(int bookingId) {
+        if (live.remove(bookingId)) {
+            pool.remove(Integer.valueOf(bookingId));
+        }
+    }
+
+    public synchronized int size() {
+        return pool.size();
+    }
+}
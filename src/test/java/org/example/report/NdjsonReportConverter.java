@@ -0,0 +1,318 @@
+package org.example.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.json.JsonCodecs;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class NdjsonReportConverter {
+    private static final Logger logger = LogManager.getLogger(NdjsonReportConverter.class);
+    private static final String UNFINISHED = "UNFINISHED";
+
+    private final Path input;
+
+    public NdjsonReportConverter(Path input) {
+        this.input = input;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println("Usage: NdjsonReportConverter <report.ndjson> <report.html> <report.xml>");
+            System.exit(2);
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]), Paths.get(args[2]));
+    }
+
+    public static void convert(Path ndjson, Path html, Path junit) {
+        try {
+            new NdjsonReportConverter(ndjson).writeReports(html, junit);
+            logger.info("Rendered {} into {} and {}", ndjson, html, junit);
+        } catch (IOException | XMLStreamException e) {
+            logger.error("Failed to render reports from {}: {}", ndjson, e.getMessage());
+            throw new RuntimeException("Failed to render reports from " + ndjson, e);
+        }
+    }
+
+    public void writeReports(Path html, Path junit) throws IOException, XMLStreamException {
+        Totals totals = countTotals();
+        createParentDirectories(html);
+        createParentDirectories(junit);
+        try (Writer htmlWriter = Files.newBufferedWriter(html, StandardCharsets.UTF_8);
+             Writer junitWriter = Files.newBufferedWriter(junit, StandardCharsets.UTF_8);
+             MappingIterator<JsonNode> lines = openLines()) {
+            HtmlView htmlView = new HtmlView(htmlWriter);
+            JunitView junitView = new JunitView(XMLOutputFactory.newInstance().createXMLStreamWriter(junitWriter));
+            htmlView.start(totals);
+            junitView.start(totals);
+
+            Map<String, ScenarioRecord> open = new LinkedHashMap<>();
+            while (lines.hasNextValue()) {
+                JsonNode line = lines.nextValue();
+                String type = line.path("type").asText();
+                if ("scenarioStarted".equals(type)) {
+                    open.put(line.path("id").asText(), new ScenarioRecord(line));
+                } else if ("step".equals(type) || "http".equals(type)) {
+                    ScenarioRecord scenario = open.get(line.path("scenarioId").asText());
+                    if (scenario != null) {
+                        scenario.entries.add(line);
+                    }
+                } else if ("scenarioFinished".equals(type)) {
+                    ScenarioRecord scenario = open.remove(line.path("id").asText());
+                    if (scenario != null) {
+                        scenario.finish(line);
+                        htmlView.scenario(scenario);
+                        junitView.scenario(scenario);
+                    }
+                }
+            }
+            for (ScenarioRecord scenario : open.values()) {
+                htmlView.scenario(scenario);
+                junitView.scenario(scenario);
+            }
+            htmlView.end();
+            junitView.end();
+        }
+    }
+
+    private Totals countTotals() throws IOException {
+        Totals totals = new Totals();
+        try (MappingIterator<JsonNode> lines = openLines()) {
+            while (lines.hasNextValue()) {
+                JsonNode line = lines.nextValue();
+                switch (line.path("type").asText()) {
+                    case "runStarted":
+                        totals.timestamp = line.path("timestamp").asText();
+                        break;
+                    case "scenarioStarted":
+                        totals.scenarios++;
+                        break;
+                    case "scenarioFinished":
+                        totals.finished++;
+                        totals.durationMillis += line.path("durationMillis").asDouble();
+                        String status = line.path("status").asText();
+                        if (isSkipped(status)) {
+                            totals.skipped++;
+                        } else if (!"PASSED".equals(status)) {
+                            totals.failed++;
+                        }
+                        break;
+                    case "runFinished":
+                        totals.durationMillis = line.path("durationMillis").asDouble();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        totals.failed += totals.scenarios - totals.finished;
+        return totals;
+    }
+
+    private MappingIterator<JsonNode> openLines() throws IOException {
+        BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+        return JsonCodecs.readerFor(JsonNode.class).readValues(reader);
+    }
+
+    private static void createParentDirectories(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+    }
+
+    private static boolean isSkipped(String status) {
+        return "SKIPPED".equals(status);
+    }
+
+    private static String seconds(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+
+    private static class Totals {
+        private String timestamp = "";
+        private int scenarios;
+        private int finished;
+        private int failed;
+        private int skipped;
+        private double durationMillis;
+    }
+
+    private static class ScenarioRecord {
+        private final String uri;
+        private final String name;
+        private final int line;
+        private final List<String> tags = new ArrayList<>();
+        private final List<JsonNode> entries = new ArrayList<>();
+        private String status = UNFINISHED;
+        private double durationMillis;
+        private String errorMessage = "Scenario did not finish, the run was interrupted";
+        private String errorType = "";
+        private String error = "";
+
+        ScenarioRecord(JsonNode started) {
+            this.uri = started.path("uri").asText();
+            this.name = started.path("name").asText();
+            this.line = started.path("line").asInt();
+            started.path("tags").forEach(tag -> tags.add(tag.asText()));
+        }
+
+        void finish(JsonNode finished) {
+            status = finished.path("status").asText();
+            durationMillis = finished.path("durationMillis").asDouble();
+            errorMessage = finished.path("errorMessage").asText("");
+            errorType = finished.path("errorType").asText("");
+            error = finished.path("error").asText("");
+        }
+
+        String className() {
+            String path = uri.replaceFirst("^.*?/features/", "");
+            return path.replaceFirst("\\.feature$", "").replace('/', '.');
+        }
+    }
+
+    private static class HtmlView {
+        private final Writer out;
+
+        HtmlView(Writer out) {
+            this.out = out;
+        }
+
+        void start(Totals totals) throws IOException {
+            out.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Cucumber report</title>\n");
+            out.write("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;margin:.5em 0}"
+                    + "td,th{border:1px solid #ccc;padding:2px 6px;text-align:left}"
+                    + ".PASSED{color:#2a7d2a}.SKIPPED{color:#888}.FAILED,.UNFINISHED,.UNDEFINED,.PENDING,.AMBIGUOUS{color:#b22}"
+                    + "pre{background:#f6f6f6;padding:.5em;overflow:auto}</style></head><body>\n");
+            out.write("<h1>Cucumber report</h1>\n<p>Started " + escape(totals.timestamp) + " &middot; "
+                    + totals.scenarios + " scenarios, " + (totals.scenarios - totals.failed - totals.skipped)
+                    + " passed, " + totals.failed + " failed, " + totals.skipped + " skipped &middot; "
+                    + seconds(totals.durationMillis) + " s</p>\n");
+        }
+
+        void scenario(ScenarioRecord scenario) throws IOException {
+            out.write("<details" + ("PASSED".equals(scenario.status) ? "" : " open") + "><summary class=\""
+                    + scenario.status + "\">" + escape(scenario.status) + " &middot; " + escape(scenario.name)
+                    + " <small>(" + escape(scenario.uri) + ":" + scenario.line + ", "
+                    + seconds(scenario.durationMillis) + " s) " + escape(String.join(" ", scenario.tags))
+                    + "</small></summary>\n");
+            out.write("<table><tr><th>Step / request</th><th>Status</th><th>ms</th></tr>\n");
+            for (JsonNode entry : scenario.entries) {
+                if ("http".equals(entry.path("type").asText())) {
+                    out.write("<tr><td>&rarr; " + escape(entry.path("method").asText()) + " "
+                            + escape(entry.path("path").asText()) + "</td><td>" + entry.path("status").asInt()
+                            + "</td><td>" + String.format(Locale.ROOT, "%.1f", entry.path("durationMillis").asDouble())
+                            + "</td></tr>\n");
+                } else if (!entry.path("hook").asBoolean() || !"PASSED".equals(entry.path("status").asText())) {
+                    String status = entry.path("status").asText();
+                    out.write("<tr><td>" + escape(entry.path("text").asText()) + "</td><td class=\"" + status + "\">"
+                            + status + "</td><td>" + String.format(Locale.ROOT, "%.1f", entry.path("durationMillis").asDouble())
+                            + "</td></tr>\n");
+                }
+            }
+            out.write("</table>\n");
+            if (!scenario.error.isEmpty() || UNFINISHED.equals(scenario.status)) {
+                out.write("<pre>" + escape(scenario.error.isEmpty() ? scenario.errorMessage : scenario.error) + "</pre>\n");
+            }
+            out.write("</details>\n");
+        }
+
+        void end() throws IOException {
+            out.write("</body></html>\n");
+        }
+
+        private static String escape(String text) {
+            StringBuilder escaped = new StringBuilder(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '<':
+                        escaped.append("&lt;");
+                        break;
+                    case '>':
+                        escaped.append("&gt;");
+                        break;
+                    case '&':
+                        escaped.append("&amp;");
+                        break;
+                    case '"':
+                        escaped.append("&quot;");
+                        break;
+                    default:
+                        escaped.append(c);
+                }
+            }
+            return escaped.toString();
+        }
+    }
+
+    private static class JunitView {
+        private final XMLStreamWriter out;
+
+        JunitView(XMLStreamWriter out) {
+            this.out = out;
+        }
+
+        void start(Totals totals) throws XMLStreamException {
+            out.writeStartDocument("UTF-8", "1.0");
+            out.writeCharacters("\n");
+            out.writeStartElement("testsuite");
+            out.writeAttribute("name", "io.cucumber.core.plugin.JUnitFormatter");
+            out.writeAttribute("tests", String.valueOf(totals.scenarios));
+            out.writeAttribute("failures", String.valueOf(totals.failed));
+            out.writeAttribute("errors", "0");
+            out.writeAttribute("skipped", String.valueOf(totals.skipped));
+            out.writeAttribute("time", seconds(totals.durationMillis));
+            out.writeAttribute("timestamp", totals.timestamp);
+            out.writeCharacters("\n");
+        }
+
+        void scenario(ScenarioRecord scenario) throws XMLStreamException {
+            out.writeStartElement("testcase");
+            out.writeAttribute("classname", scenario.className());
+            out.writeAttribute("name", scenario.name);
+            out.writeAttribute("time", seconds(scenario.durationMillis));
+            if (isSkipped(scenario.status)) {
+                out.writeEmptyElement("skipped");
+            } else if (!"PASSED".equals(scenario.status)) {
+                out.writeStartElement("failure");
+                out.writeAttribute("message", scenario.errorMessage.isEmpty() ? scenario.status : scenario.errorMessage);
+                out.writeAttribute("type", scenario.errorType.isEmpty() ? scenario.status : scenario.errorType);
+                out.writeCData(scenario.error.replace("]]>", "]]]]><![CDATA[>"));
+                out.writeEndElement();
+            }
+            out.writeStartElement("system-out");
+            StringBuilder steps = new StringBuilder("\n");
+            for (JsonNode entry : scenario.entries) {
+                if ("step".equals(entry.path("type").asText()) && !entry.path("hook").asBoolean()) {
+                    steps.append(entry.path("text").asText()).append("...").append(entry.path("status").asText().toLowerCase(Locale.ROOT)).append('\n');
+                }
+            }
+            out.writeCData(steps.toString().replace("]]>", "]]]]><![CDATA[>"));
+            out.writeEndElement();
+            out.writeEndElement();
+            out.writeCharacters("\n");
+        }
+
+        void end() throws XMLStreamException {
+            out.writeEndElement();
+            out.writeEndDocument();
+            out.close();
+        }
+    }
+}
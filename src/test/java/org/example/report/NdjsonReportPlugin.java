@@ -0,0 +1,217 @@
+package org.example.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.http.HttpExchange;
+import org.example.http.HttpExchangeFilter;
+import org.example.http.HttpExchangeListener;
+import org.example.json.JsonCodecs;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+
+public class NdjsonReportPlugin implements ConcurrentEventListener, HttpExchangeListener {
+    private static final Logger logger = LogManager.getLogger(NdjsonReportPlugin.class);
+
+    private final Path outputFile;
+    private final InheritableThreadLocal<String> currentScenario = new InheritableThreadLocal<>();
+    private JsonGenerator generator;
+    private Instant runStarted;
+
+    public NdjsonReportPlugin() {
+        this(TestConfig.getProperty("report.ndjson.file", "target/cucumber-reports/cucumber.ndjson"));
+    }
+
+    public NdjsonReportPlugin(String outputFile) {
+        this.outputFile = Paths.get(outputFile);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, this::onTestRunStarted);
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onTestRunFinished);
+    }
+
+    private void onTestRunStarted(TestRunStarted event) {
+        runStarted = event.getInstant();
+        try {
+            if (outputFile.getParent() != null) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8);
+            generator = JsonCodecs.factory().createGenerator(writer);
+            generator.setRootValueSeparator(null);
+        } catch (IOException e) {
+            logger.error("Failed to open NDJSON report {}: {}", outputFile, e.getMessage());
+            generator = null;
+            return;
+        }
+        HttpExchangeFilter.addListener(this);
+        writeLine(true, gen -> {
+            gen.writeStringField("type", "runStarted");
+            gen.writeStringField("timestamp", runStarted.toString());
+        });
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        TestCase testCase = event.getTestCase();
+        String scenarioId = testCase.getId().toString();
+        currentScenario.set(scenarioId);
+        writeLine(true, gen -> {
+            gen.writeStringField("type", "scenarioStarted");
+            gen.writeStringField("id", scenarioId);
+            gen.writeStringField("uri", testCase.getUri().toString());
+            gen.writeStringField("name", testCase.getName());
+            gen.writeNumberField("line", testCase.getLocation().getLine());
+            gen.writeArrayFieldStart("tags");
+            for (String tag : testCase.getTags()) {
+                gen.writeString(tag);
+            }
+            gen.writeEndArray();
+            gen.writeStringField("timestamp", event.getInstant().toString());
+        });
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        TestStep testStep = event.getTestStep();
+        Result result = event.getResult();
+        writeLine(false, gen -> {
+            gen.writeStringField("type", "step");
+            gen.writeStringField("scenarioId", event.getTestCase().getId().toString());
+            gen.writeStringField("text", describe(testStep));
+            gen.writeBooleanField("hook", testStep instanceof HookTestStep);
+            gen.writeStringField("status", result.getStatus().name());
+            gen.writeNumberField("durationMillis", toMillis(result.getDuration()));
+            writeError(gen, result.getError());
+        });
+    }
+
+    @Override
+    public void onExchange(HttpExchange exchange) {
+        String scenarioId = currentScenario.get();
+        writeLine(false, gen -> {
+            gen.writeStringField("type", "http");
+            gen.writeStringField("scenarioId", scenarioId);
+            gen.writeStringField("method", exchange.getMethod());
+            gen.writeStringField("endpoint", exchange.getEndpoint());
+            gen.writeStringField("path", exchange.getPath());
+            gen.writeNumberField("status", exchange.getStatusCode());
+            gen.writeNumberField("durationMillis", exchange.getDurationNanos() / 1_000_000.0);
+            gen.writeNumberField("bytes", exchange.getResponseBytes());
+            if (exchange.getFailure() != null) {
+                gen.writeStringField("failure", exchange.getFailure());
+            }
+        });
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Result result = event.getResult();
+        writeLine(true, gen -> {
+            gen.writeStringField("type", "scenarioFinished");
+            gen.writeStringField("id", event.getTestCase().getId().toString());
+            gen.writeStringField("status", result.getStatus().name());
+            gen.writeNumberField("durationMillis", toMillis(result.getDuration()));
+            writeError(gen, result.getError());
+        });
+        currentScenario.remove();
+    }
+
+    private void onTestRunFinished(TestRunFinished event) {
+        if (generator == null) {
+            return;
+        }
+        HttpExchangeFilter.removeListener(this);
+        writeLine(true, gen -> {
+            gen.writeStringField("type", "runFinished");
+            gen.writeStringField("status", event.getResult().getStatus().name());
+            gen.writeNumberField("durationMillis", toMillis(Duration.between(runStarted, event.getInstant())));
+        });
+        synchronized (this) {
+            try {
+                generator.close();
+            } catch (IOException e) {
+                logger.error("Failed to close NDJSON report {}: {}", outputFile, e.getMessage());
+            }
+            generator = null;
+        }
+        logger.info("NDJSON report written to {}", outputFile);
+
+        if (TestConfig.getBooleanProperty("report.render", true)) {
+            NdjsonReportConverter.convert(outputFile,
+                    Paths.get(TestConfig.getProperty("report.html.file", "target/cucumber-reports/cucumber.html")),
+                    Paths.get(TestConfig.getProperty("report.junit.file", "target/cucumber-reports/cucumber.xml")));
+        }
+    }
+
+    private synchronized void writeLine(boolean flush, LineWriter lineWriter) {
+        if (generator == null) {
+            return;
+        }
+        try {
+            generator.writeStartObject();
+            lineWriter.write(generator);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (flush) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write NDJSON report line: {}", e.getMessage());
+        }
+    }
+
+    private static void writeError(JsonGenerator gen, Throwable error) throws IOException {
+        if (error == null) {
+            return;
+        }
+        StringWriter stackTrace = new StringWriter();
+        error.printStackTrace(new PrintWriter(stackTrace));
+        gen.writeStringField("errorMessage", String.valueOf(error.getMessage()));
+        gen.writeStringField("errorType", error.getClass().getName());
+        gen.writeStringField("error", stackTrace.toString());
+    }
+
+    private static String describe(TestStep testStep) {
+        if (testStep instanceof PickleStepTestStep) {
+            PickleStepTestStep pickleStep = (PickleStepTestStep) testStep;
+            return pickleStep.getStep().getKeyword() + pickleStep.getStep().getText();
+        }
+        if (testStep instanceof HookTestStep) {
+            return "Hook: " + ((HookTestStep) testStep).getHookType() + " " + testStep.getCodeLocation();
+        }
+        return testStep.getCodeLocation();
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private interface LineWriter {
+        void write(JsonGenerator gen) throws IOException;
+    }
+}
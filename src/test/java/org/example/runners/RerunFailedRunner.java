@@ -0,0 +1,30 @@
+package org.example.runners;
+
+import io.cucumber.junit.Cucumber;
+import io.cucumber.junit.CucumberOptions;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.List;
+
+@RunWith(Cucumber.class)
+@CucumberOptions(
+        features = "@target/cucumber-reports/rerun.txt",
+        glue = "org.example.steps",
+        plugin = {
+                "pretty",
+                "junit:target/cucumber-reports/rerun.xml",
+                "org.example.flaky.FlakyScenarioPlugin:rerun"
+        },
+        monochrome = true
+)
+public class RerunFailedRunner {
+
+    @AfterClass
+    public static void verifyFirstPassGates() throws IOException {
+        List<String> failures = RunGates.recordedFailures();
+        Assert.assertTrue("First pass gates failed:\n" + String.join("\n", failures), failures.isEmpty());
+    }
+}
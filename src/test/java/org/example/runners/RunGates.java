@@ -0,0 +1,44 @@
+package org.example.runners;
+
+import org.example.config.TestConfig;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+final class RunGates {
+    private RunGates() {
+    }
+
+    static void reset() throws IOException {
+        Files.deleteIfExists(gateFile());
+    }
+
+    static void check(String title, List<String> problems) throws IOException {
+        if (problems.isEmpty()) {
+            return;
+        }
+        String message = title + ":\n" + String.join("\n", problems);
+        Path file = gateFile();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, (message + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        Assert.fail(message);
+    }
+
+    static List<String> recordedFailures() throws IOException {
+        Path file = gateFile();
+        return Files.exists(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : List.of();
+    }
+
+    private static Path gateFile() {
+        return Paths.get(TestConfig.getProperty("gate.failures.file", "target/cucumber-reports/gate-failures.txt"));
+    }
+}
@@ -2,19 +2,56 @@ package org.example.runners;
 
 import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
+import org.example.config.TestConfig;
+import org.example.history.RunHistoryPlugin;
+import org.example.metrics.RunMetrics;
+import org.example.metrics.SloEvaluator;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.runner.RunWith;
 
+import java.io.IOException;
+import java.util.List;
+
 @RunWith(Cucumber.class)
 @CucumberOptions(
         features = "src/test/resources/features",
         glue = "org.example.steps",
+        tags = "not @load",
         plugin = {
                 "pretty",
-                "html:target/cucumber-reports/cucumber.html",
-                "json:target/cucumber-reports/cucumber.json",
-                "junit:target/cucumber-reports/cucumber.xml"
+                "org.example.fault.FaultInjectionPlugin",
+                "org.example.report.NdjsonReportPlugin",
+                "org.example.history.RunHistoryPlugin",
+                "org.example.flaky.FlakyScenarioPlugin",
+                "org.example.profile.FoldedStackPlugin",
+                "org.example.jfr.JfrRecordingPlugin",
+                "org.example.consistency.VisibilityReportPlugin",
+                "org.example.probe.ApiLatencyProbePlugin"
         },
         monochrome = true
 )
 public class TestRunner {
-}
\ No newline at end of file
+
+    @BeforeClass
+    public static void resetRunGates() throws IOException {
+        RunGates.reset();
+    }
+
+    @AfterClass
+    public static void verifyEndpointSlos() throws IOException {
+        if (!TestConfig.getBooleanProperty("slo.enabled", true)) {
+            return;
+        }
+        List<String> violations = SloEvaluator.fromConfig().evaluate(RunMetrics.getInstance());
+        RunGates.check("Endpoint SLO violations", violations);
+    }
+
+    @AfterClass
+    public static void verifyNoPerformanceRegressions() throws IOException {
+        if (!"fail".equalsIgnoreCase(TestConfig.getProperty("history.gate", "warn"))) {
+            return;
+        }
+        RunGates.check("Performance regressions against run history", RunHistoryPlugin.getLastRegressions());
+    }
+}
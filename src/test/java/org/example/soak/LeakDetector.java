@@ -0,0 +1,92 @@
+package org.example.soak;
+
+public class LeakDetector {
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final double maxHeapGrowthMbPerHour;
+    private final int maxThreadGrowth;
+    private final int segments;
+
+    public LeakDetector(double maxHeapGrowthMbPerHour, int maxThreadGrowth, int segments) {
+        if (segments < 2) {
+            throw new IllegalArgumentException("At least two segments are required to detect a trend");
+        }
+        this.maxHeapGrowthMbPerHour = maxHeapGrowthMbPerHour;
+        this.maxThreadGrowth = maxThreadGrowth;
+        this.segments = segments;
+    }
+
+    public Result analyze(ResourceSampler.Snapshot snapshot, long sinceMs) {
+        int start = 0;
+        while (start < snapshot.size() && snapshot.timestampsMs()[start] < sinceMs) {
+            start++;
+        }
+        int count = snapshot.size() - start;
+        if (count < segments * 2) {
+            return new Result(false, 0, 0, count,
+                    "Not enough samples after warm-up to evaluate a trend (" + count + ")");
+        }
+
+        double slopeMbPerHour = heapSlopeMbPerHour(snapshot, start);
+        boolean heapFloorRising = segmentFloorsRise(snapshot, start, count);
+        int threadGrowth = threadFloorGrowth(snapshot, start, count);
+
+        boolean heapLeak = heapFloorRising && slopeMbPerHour > maxHeapGrowthMbPerHour;
+        boolean threadLeak = threadGrowth > maxThreadGrowth;
+        String message = String.format(
+                "heap-after-GC slope %.2f MB/h (limit %.2f), floor rising in every segment: %s, thread growth %d (limit %d)",
+                slopeMbPerHour, maxHeapGrowthMbPerHour, heapFloorRising, threadGrowth, maxThreadGrowth);
+        return new Result(heapLeak || threadLeak, slopeMbPerHour, threadGrowth, count, message);
+    }
+
+    private double heapSlopeMbPerHour(ResourceSampler.Snapshot snapshot, int start) {
+        long origin = snapshot.timestampsMs()[start];
+        int n = snapshot.size() - start;
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        for (int i = start; i < snapshot.size(); i++) {
+            double x = (snapshot.timestampsMs()[i] - origin) / MILLIS_PER_HOUR;
+            double y = snapshot.heapAfterGcBytes()[i] / BYTES_PER_MB;
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        return denominator == 0 ? 0 : (n * sumXY - sumX * sumY) / denominator;
+    }
+
+    private boolean segmentFloorsRise(ResourceSampler.Snapshot snapshot, int start, int count) {
+        long previousFloor = Long.MIN_VALUE;
+        for (int segment = 0; segment < segments; segment++) {
+            int from = start + segment * count / segments;
+            int to = start + (segment + 1) * count / segments;
+            long floor = Long.MAX_VALUE;
+            for (int i = from; i < to; i++) {
+                floor = Math.min(floor, snapshot.heapAfterGcBytes()[i]);
+            }
+            if (floor <= previousFloor) {
+                return false;
+            }
+            previousFloor = floor;
+        }
+        return true;
+    }
+
+    private int threadFloorGrowth(ResourceSampler.Snapshot snapshot, int start, int count) {
+        int segmentLength = count / segments;
+        int firstFloor = Integer.MAX_VALUE;
+        int lastFloor = Integer.MAX_VALUE;
+        for (int i = 0; i < segmentLength; i++) {
+            firstFloor = Math.min(firstFloor, snapshot.threadCounts()[start + i]);
+            lastFloor = Math.min(lastFloor, snapshot.threadCounts()[snapshot.size() - 1 - i]);
+        }
+        return lastFloor - firstFloor;
+    }
+
+    public record Result(boolean leaking, double heapSlopeMbPerHour, int threadGrowth, int samples, String message) {
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.soak;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ResourceSampler {
+    private static final Logger logger = LogManager.getLogger(ResourceSampler.class);
+
+    private final int capacity;
+    private final boolean forceGc;
+    private final long[] timestampsMs;
+    private final long[] heapAfterGcBytes;
+    private final int[] threadCounts;
+    private final List<MemoryPoolMXBean> heapPools;
+    private final ThreadMXBean threadBean;
+    private ScheduledExecutorService scheduler;
+    private int size;
+    private int stride = 1;
+    private long offered;
+
+    public ResourceSampler(int capacity, boolean forceGc) {
+        if (capacity < 2 || capacity % 2 != 0) {
+            throw new IllegalArgumentException("Sample capacity must be an even number of at least 2");
+        }
+        this.capacity = capacity;
+        this.forceGc = forceGc;
+        this.timestampsMs = new long[capacity];
+        this.heapAfterGcBytes = new long[capacity];
+        this.threadCounts = new int[capacity];
+        this.heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(MemoryPoolMXBean::isCollectionUsageThresholdSupported)
+                .toList();
+        this.threadBean = ManagementFactory.getThreadMXBean();
+    }
+
+    public void start(long intervalSeconds) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-resource-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sampleSafely, 0, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        sampleSafely();
+    }
+
+    public synchronized void sample() {
+        if (forceGc) {
+            System.gc();
+        }
+        long heapAfterGc = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage != null) {
+                heapAfterGc += usage.getUsed();
+            }
+        }
+        int threads = threadBean.getThreadCount();
+        logger.debug("Soak sample - heap after GC: {} MB, threads: {}", heapAfterGc / (1024 * 1024), threads);
+
+        if (offered++ % stride != 0) {
+            return;
+        }
+        if (size == capacity) {
+            compact();
+        }
+        timestampsMs[size] = System.currentTimeMillis();
+        heapAfterGcBytes[size] = heapAfterGc;
+        threadCounts[size] = threads;
+        size++;
+    }
+
+    public synchronized Snapshot snapshot() {
+        long[] timestamps = new long[size];
+        long[] heap = new long[size];
+        int[] threads = new int[size];
+        System.arraycopy(timestampsMs, 0, timestamps, 0, size);
+        System.arraycopy(heapAfterGcBytes, 0, heap, 0, size);
+        System.arraycopy(threadCounts, 0, threads, 0, size);
+        return new Snapshot(timestamps, heap, threads);
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (Exception e) {
+            logger.error("Resource sampling failed: {}", e.getMessage());
+        }
+    }
+
+    private void compact() {
+        for (int i = 0; i < capacity / 2; i++) {
+            timestampsMs[i] = timestampsMs[2 * i];
+            heapAfterGcBytes[i] = Math.min(heapAfterGcBytes[2 * i], heapAfterGcBytes[2 * i + 1]);
+            threadCounts[i] = Math.min(threadCounts[2 * i], threadCounts[2 * i + 1]);
+        }
+        size = capacity / 2;
+        stride *= 2;
+        logger.debug("Soak sample buffer compacted, keeping every {} sample(s)", stride);
+    }
+
+    public record Snapshot(long[] timestampsMs, long[] heapAfterGcBytes, int[] threadCounts) {
+        public int size() {
+            return timestampsMs.length;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.soak;
+
+import io.cucumber.core.cli.Main;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.TestConfig;
+import org.example.context.ScenarioContext;
+import org.example.data.TestDataNamespace;
+import org.example.index.BookingShadowIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class SoakRunner {
+    private static final Logger logger = LogManager.getLogger(SoakRunner.class);
+
+    public static void main(String[] args) {
+        System.exit(new SoakRunner().run());
+    }
+
+    public int run() {
+        long durationMs = TimeUnit.MINUTES.toMillis(TestConfig.getLongProperty("soak.duration.minutes", 60));
+        long warmupMs = TimeUnit.MINUTES.toMillis(TestConfig.getLongProperty("soak.warmup.minutes", 5));
+        boolean failOnScenarioFailure = TestConfig.getBooleanProperty("soak.fail.on.scenario.failure", false);
+
+        ResourceSampler sampler = new ResourceSampler(
+                TestConfig.getIntProperty("soak.sample.capacity", 4096),
+                TestConfig.getBooleanProperty("soak.force.gc", true));
+        LeakDetector detector = new LeakDetector(
+                TestConfig.getDoubleProperty("soak.max.heap.growth.mb.per.hour", 16),
+                TestConfig.getIntProperty("soak.max.thread.growth", 4),
+                TestConfig.getIntProperty("soak.trend.segments", 4));
+
+        long startMs = System.currentTimeMillis();
+        long deadlineMs = startMs + durationMs;
+        int iterations = 0;
+        int failedIterations = 0;
+
+        logger.info("Starting soak run for {} minute(s)", TimeUnit.MILLISECONDS.toMinutes(durationMs));
+        sampler.start(TestConfig.getLongProperty("soak.sample.interval.seconds", 10));
+        try {
+            while (System.currentTimeMillis() < deadlineMs) {
+                iterations++;
+                byte exitStatus = Main.run(buildCucumberArguments(), Thread.currentThread().getContextClassLoader());
+                ScenarioContext.getInstance().clear();
+                BookingShadowIndex.getInstance().clear();
+                TestDataNamespace.getInstance().rotate();
+                if (exitStatus != 0) {
+                    failedIterations++;
+                    logger.warn("Soak iteration {} finished with failures", iterations);
+                }
+                logger.info("Soak iteration {} finished, {} minute(s) remaining", iterations,
+                        TimeUnit.MILLISECONDS.toMinutes(Math.max(0, deadlineMs - System.currentTimeMillis())));
+            }
+        } finally {
+            sampler.stop();
+        }
+
+        LeakDetector.Result result = detector.analyze(sampler.snapshot(), startMs + warmupMs);
+        logger.info("Soak run finished after {} iteration(s), {} with failures", iterations, failedIterations);
+        logger.info("Soak resource trend over {} sample(s): {}", result.samples(), result.message());
+
+        if (result.leaking()) {
+            logger.error("Soak run detected a sustained upward resource trend");
+            return 2;
+        }
+        if (failOnScenarioFailure && failedIterations > 0) {
+            logger.error("Soak run had {} failing iteration(s)", failedIterations);
+            return 1;
+        }
+        return 0;
+    }
+
+    private String[] buildCucumberArguments() {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--glue", "org.example.steps",
+                "--plugin", "summary",
+                "--uuid-generator", "io.cucumber.core.eventbus.RandomUuidGenerator",
+                "--monochrome"
+        ));
+        String tags = TestConfig.getProperty("soak.tags", "");
+        if (!tags.isBlank()) {
+            arguments.add("--tags");
+            arguments.add(tags);
+        }
+        arguments.add(TestConfig.getProperty("soak.features", "src/test/resources/features"));
+        return arguments.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.stats;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+
+public final class Bootstrap {
+    private Bootstrap() {
+    }
+
+    public static double[] differenceInterval(double[] sample, double[] reference, ToDoubleFunction<double[]> statistic,
+                                              double confidence, int resamples, long seed) {
+        if (sample.length == 0 || reference.length == 0) {
+            return new double[]{Double.NaN, Double.NaN};
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] differences = new double[resamples];
+        double[] sampleDraw = new double[sample.length];
+        double[] referenceDraw = new double[reference.length];
+        for (int i = 0; i < resamples; i++) {
+            resample(sample, sampleDraw, random);
+            resample(reference, referenceDraw, random);
+            differences[i] = statistic.applyAsDouble(sampleDraw) - statistic.applyAsDouble(referenceDraw);
+        }
+        Arrays.sort(differences);
+        double tail = (1 - confidence) / 2;
+        return new double[]{quantile(differences, tail), quantile(differences, 1 - tail)};
+    }
+
+    public static double median(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    public static double mean(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static void resample(double[] source, double[] target, SplittableRandom random) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = source[random.nextInt(source.length)];
+        }
+    }
+
+    private static double quantile(double[] sorted, double quantile) {
+        int index = (int) Math.round(quantile * (sorted.length - 1));
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
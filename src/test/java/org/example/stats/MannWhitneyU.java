@@ -0,0 +1,90 @@
+package org.example.stats;
+
+import java.util.Arrays;
+
+public final class MannWhitneyU {
+    private MannWhitneyU() {
+    }
+
+    public static double pValueGreater(double[] sample, double[] reference) {
+        int n1 = sample.length;
+        int n2 = reference.length;
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+        double u1 = rankSum(sample, reference) - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n1 + n2 + 1) - tieCorrection(sample, reference) / ((n1 + n2) * (double) (n1 + n2 - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u1 - mean - 0.5) / Math.sqrt(variance);
+        return upperTail(z);
+    }
+
+    public static double pValueTwoSided(double[] sample, double[] reference) {
+        return Math.min(1.0, 2 * Math.min(pValueGreater(sample, reference), pValueGreater(reference, sample)));
+    }
+
+    private static double rankSum(double[] sample, double[] reference) {
+        int n1 = sample.length;
+        int total = n1 + reference.length;
+        double[] values = new double[total];
+        boolean[] fromSample = new boolean[total];
+        Integer[] order = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            values[i] = i < n1 ? sample[i] : reference[i - n1];
+            fromSample[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double sum = 0;
+        int i = 0;
+        while (i < total) {
+            int j = i;
+            while (j + 1 < total && values[order[j + 1]] == values[order[i]]) {
+                j++;
+            }
+            double averageRank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (fromSample[order[k]]) {
+                    sum += averageRank;
+                }
+            }
+            i = j + 1;
+        }
+        return sum;
+    }
+
+    private static double tieCorrection(double[] sample, double[] reference) {
+        double[] all = new double[sample.length + reference.length];
+        System.arraycopy(sample, 0, all, 0, sample.length);
+        System.arraycopy(reference, 0, all, sample.length, reference.length);
+        Arrays.sort(all);
+        double correction = 0;
+        int i = 0;
+        while (i < all.length) {
+            int j = i;
+            while (j + 1 < all.length && all[j + 1] == all[i]) {
+                j++;
+            }
+            double ties = j - i + 1;
+            correction += ties * ties * ties - ties;
+            i = j + 1;
+        }
+        return correction;
+    }
+
+    static double upperTail(double z) {
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    private static double erfc(double x) {
+        double t = 1.0 / (1.0 + 0.5 * Math.abs(x));
+        double y = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? y : 2.0 - y;
+    }
+}
@@ -4,17 +4,23 @@ import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.data.BookingTables;
+import org.example.data.TestDataNamespace;
 import org.example.methods.AuthMethods;
 import org.example.methods.BookingMethods;
+import org.example.methods.PerformanceMethods;
+import org.example.models.BookingFieldUpdate;
 import org.example.models.BookingRequest;
 import org.junit.Assert;
 
-import java.text.ParseException;
 import java.util.*;
 
 public class BookingSteps {
     private final BookingMethods bookingMethods = new BookingMethods();
     private final AuthMethods authMethods = new AuthMethods();
+    private final PerformanceMethods performanceMethods = new PerformanceMethods();
+    private final TestDataNamespace namespace = TestDataNamespace.getInstance();
+    private final BookingTables bookingTables = new BookingTables();
     private String token;
     private BookingRequest currentBookingRequest;
     private Map<String, String> testBookingData;
@@ -35,8 +41,9 @@ public class BookingSteps {
     }
 
     @Given("I create a basic booking with {string}, {string}, {string}, and {string}")
-    public void createBasicBooking(String firstname, String lastname, String checkin, String checkout) throws ParseException {
-        bookingMethods.createBasicBooking(firstname, lastname, checkin, checkout);
+    public void createBasicBooking(String firstname, String lastname, String checkin, String checkout) {
+        bookingMethods.createBasicBooking(namespace.resolve(firstname), namespace.resolve(lastname),
+                namespace.resolve(checkin), namespace.resolve(checkout));
     }
 
     @Then("the booking is successfully created")
@@ -49,6 +56,16 @@ public class BookingSteps {
         bookingMethods.verifyStatusCode(expectedStatusCode);
     }
 
+    @Then("the response time should be below {long} ms")
+    public void theResponseTimeShouldBeBelow(long maxMillis) {
+        bookingMethods.verifyResponseTimeBelow(maxMillis);
+    }
+
+    @Then("the p{int} of the last {int} {word} {word} calls should be below {long} ms")
+    public void thePercentileOfTheLastCallsShouldBeBelow(int percentile, int count, String method, String endpoint, long maxMillis) {
+        performanceMethods.verifyPercentileOfLastCalls(percentile, count, method, endpoint, maxMillis);
+    }
+
     @Then("the response should contain an array of booking IDs")
     public void theResponseShouldContainAnArrayOfBookingIDs() {
         bookingMethods.verifyBookingIdsListNotEmpty();
@@ -56,7 +73,7 @@ public class BookingSteps {
 
     @When("I request booking IDs filtered by firstname {string} and lastname {string}")
     public void iRequestBookingIDsFilteredByName(String firstname, String lastname) {
-        bookingMethods.getBookingIdsWithFilters(firstname, lastname);
+        bookingMethods.getBookingIdsWithFilters(namespace.resolve(firstname), namespace.resolve(lastname));
     }
 
     @Then("the response should contain the created booking ID")
@@ -71,7 +88,7 @@ public class BookingSteps {
 
     @When("I request booking IDs filtered by checkin {string} and checkout {string}")
     public void iRequestBookingIDsFilteredByDates(String checkin, String checkout) {
-        bookingMethods.getBookingIdsWithDateFilters(checkin, checkout);
+        bookingMethods.getBookingIdsWithDateFilters(namespace.resolve(checkin), namespace.resolve(checkout));
     }
 
     @Then("the response should only include bookings within the date range")
@@ -85,8 +102,8 @@ public class BookingSteps {
     }
 
     @Given("I create a test booking with following data")
-    public void createTestBooking(DataTable dataTable) throws ParseException {
-        bookingMethods.createTestBooking(dataTable);
+    public void createTestBooking(BookingRequest request) {
+        bookingMethods.createTestBooking(request);
     }
 
     @When("I request details for booking ID {string}")
@@ -94,6 +111,11 @@ public class BookingSteps {
         bookingMethods.getBookingByIdType(idType);
     }
 
+    @When("I request details for booking ID {string} {int} times")
+    public void requestBookingDetailsRepeatedly(String idType, int times) {
+        bookingMethods.getBookingByIdTypeRepeatedly(idType, times);
+    }
+
     @Then("the response should match the test booking data")
     public void verifyResponseMatchesTestData() {
         bookingMethods.verifyBookingDetailsMatch(testBookingData);
@@ -105,8 +127,8 @@ public class BookingSteps {
     }
 
     @When("I update the booking with ID {int} with the following data:")
-    public void iUpdateTheBookingWithFollowingData(int id, Map<String, String> bookingData) throws ParseException {
-        bookingMethods.updateBookingWithMap(id, bookingData, token);
+    public void iUpdateTheBookingWithFollowingData(int id, Map<String, String> bookingData) {
+        bookingMethods.updateBooking(id, bookingTables.toBookingRequest(bookingData), token);
     }
 
     @Then("the updated booking should contain:")
@@ -115,8 +137,8 @@ public class BookingSteps {
     }
 
     @When("I partially update the created booking with:")
-    public void iPartiallyUpdateTheCreatedBookingWith(DataTable dataTable) {
-        bookingMethods.partialUpdateCreatedBooking(dataTable, token);
+    public void iPartiallyUpdateTheCreatedBookingWith(List<BookingFieldUpdate> updates) {
+        bookingMethods.partialUpdateCreatedBooking(updates, token);
     }
 
     @When("I delete the booking with ID {string}")
@@ -135,8 +157,13 @@ public class BookingSteps {
     }
 
     @Given("I prepare booking data")
-    public void prepareBookingData(DataTable dataTable) throws ParseException {
-        bookingMethods.prepareBookingDataFromDataTable(dataTable);
+    public void prepareBookingData(BookingRequest request) {
+        bookingMethods.prepareBookingData(request);
+    }
+
+    @Given("I prepare generated booking data with seed {long}")
+    public void prepareGeneratedBookingData(long seed) {
+        bookingMethods.prepareGeneratedBookingData(seed);
     }
 
     @When("I create a booking with the prepared data")
@@ -160,8 +187,8 @@ public class BookingSteps {
     }
 
     @When("I update the booking with ID {string} with the following data:")
-    public void updateBookingWithId(String idType, DataTable dataTable) throws ParseException {
-        bookingMethods.updateBookingByIdTypeWithData(idType, dataTable, token);
+    public void updateBookingWithId(String idType, BookingRequest request) {
+        bookingMethods.updateBookingByIdType(idType, request, token);
     }
 
     @Then("the booking should be successfully updated")
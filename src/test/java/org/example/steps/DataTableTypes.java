@@ -0,0 +1,22 @@
+package org.example.steps;
+
+import io.cucumber.java.DataTableType;
+import org.example.data.BookingTables;
+import org.example.models.BookingFieldUpdate;
+import org.example.models.BookingRequest;
+
+import java.util.Map;
+
+public class DataTableTypes {
+    private final BookingTables bookingTables = new BookingTables();
+
+    @DataTableType
+    public BookingRequest bookingRequest(Map<String, String> row) {
+        return bookingTables.toBookingRequest(row);
+    }
+
+    @DataTableType
+    public BookingFieldUpdate bookingFieldUpdate(Map<String, String> row) {
+        return bookingTables.toFieldUpdate(row);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.steps;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.budget.CallBudgetTracker;
+import org.example.budget.CallBudgets;
+import org.example.budget.NPlusOneDetector;
+import org.example.budget.ScenarioCalls;
+import org.example.config.TestConfig;
+import org.example.context.ScenarioContext;
+import org.example.metrics.RunMetrics;
+import org.example.probe.ApiLatencyProber;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class Hooks {
+    private static final Logger logger = LogManager.getLogger(Hooks.class);
+    private static final boolean CALL_BUDGET_ENABLED = TestConfig.getBooleanProperty("callbudget.enabled", true);
+    private static final boolean FAIL_ON_N_PLUS_ONE = TestConfig.getBooleanProperty("callbudget.n1.fail", false);
+    private static final CallBudgets CALL_BUDGETS = CallBudgets.fromConfig();
+    private static final NPlusOneDetector N_PLUS_ONE_DETECTOR = NPlusOneDetector.fromConfig();
+
+    private long transportRetriesAtStart;
+    private long verificationRetriesAtStart;
+    private long scenarioStartMillis;
+
+    @Before(order = 0)
+    public void trackScenarioStart() {
+        RunMetrics metrics = RunMetrics.getInstance();
+        metrics.scenarioStarted();
+        transportRetriesAtStart = metrics.getTransportRetryCount();
+        verificationRetriesAtStart = metrics.getVerificationRetryCount();
+        scenarioStartMillis = System.currentTimeMillis();
+    }
+
+    @Before(order = 1)
+    public void startCallCounting(Scenario scenario) {
+        if (CALL_BUDGET_ENABLED) {
+            CallBudgetTracker.getInstance().start(scenario.getName());
+        }
+    }
+
+    @After(order = 2)
+    public void checkCallBudget(Scenario scenario) {
+        ScenarioCalls calls = CallBudgetTracker.getInstance().finish();
+        if (calls == null) {
+            return;
+        }
+        Map<String, Integer> limits = CALL_BUDGETS.limitsFor(scenario.getName(), scenario.getSourceTagNames());
+        scenario.log(String.format("HTTP calls: %d %s%s", calls.getTotal(), calls.getCountsByEndpoint(),
+                limits.isEmpty() ? "" : ", budget " + limits));
+
+        List<String> violations = new ArrayList<>(CALL_BUDGETS.evaluate(calls, limits));
+        for (String finding : N_PLUS_ONE_DETECTOR.detect(calls.getEndpoints())) {
+            logger.warn("Possible N+1 request pattern in {}: {}", scenario.getName(), finding);
+            scenario.log("Possible N+1 request pattern: " + finding);
+            if (FAIL_ON_N_PLUS_ONE) {
+                violations.add(finding);
+            }
+        }
+        if (!violations.isEmpty()) {
+            Assert.fail("HTTP call budget exceeded: " + String.join("; ", violations));
+        }
+    }
+
+    @After(order = 1)
+    public void trackScenarioEnd(Scenario scenario) {
+        RunMetrics metrics = RunMetrics.getInstance();
+        metrics.scenarioFinished();
+        long transportRetries = metrics.getTransportRetryCount() - transportRetriesAtStart;
+        long verificationRetries = metrics.getVerificationRetryCount() - verificationRetriesAtStart;
+        if (transportRetries > 0 || verificationRetries > 0) {
+            scenario.log(String.format("Retries - transport: %d, verification: %d", transportRetries, verificationRetries));
+        }
+        ApiLatencyProber prober = ApiLatencyProber.getInstance();
+        if (prober.isRunning()) {
+            ApiLatencyProber.Baseline during = prober.baselineBetween(scenarioStartMillis, System.currentTimeMillis());
+            ApiLatencyProber.Baseline run = prober.baselineOfRun();
+            scenario.log(String.format(Locale.ROOT,
+                    "API baseline (GET /ping): median %.1f ms, max %.1f ms over %d probe(s), %d failed; run median %.1f ms",
+                    during.getMedianMillis(), during.getMaxMillis(), during.getSamples(), during.getFailures(),
+                    run.getMedianMillis()));
+        }
+    }
+
+    @After(order = 0)
+    public void clearScenarioState(Scenario scenario) {
+        ScenarioContext scenarioContext = ScenarioContext.getInstance();
+        logger.debug("Clearing {} scenario context entries after: {}", scenarioContext.size(), scenario.getName());
+        scenarioContext.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.steps;
+
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.example.methods.LoadMethods;
+
+public class LoadSteps {
+    private final LoadMethods loadMethods = new LoadMethods();
+
+    @When("I send {int} concurrent GET requests for the created booking")
+    public void iSendConcurrentGetRequestsForTheCreatedBooking(int requests) {
+        loadMethods.sendConcurrentGetRequestsForCreatedBooking(requests);
+    }
+
+    @When("{int} users concurrently create bookings")
+    public void usersConcurrentlyCreateBookings(int users) {
+        loadMethods.createBookingsConcurrently(users);
+    }
+
+    @Then("all concurrent responses should have status code {int}")
+    public void allConcurrentResponsesShouldHaveStatusCode(int expectedStatus) {
+        loadMethods.verifyAllResponsesHaveStatus(expectedStatus);
+    }
+
+    @Then("at least {int}% of concurrent responses should have status code {int}")
+    public void atLeastPercentOfConcurrentResponsesShouldHaveStatusCode(int minimumPercent, int expectedStatus) {
+        loadMethods.verifyMinimumShareWithStatus(minimumPercent, expectedStatus);
+    }
+
+    @Then("the concurrent throughput should be at least {double} requests per second")
+    public void theConcurrentThroughputShouldBeAtLeast(double minimumPerSecond) {
+        loadMethods.verifyThroughputAtLeast(minimumPerSecond);
+    }
+
+    @Then("the concurrent p{int} latency should be below {long} ms")
+    public void theConcurrentLatencyPercentileShouldBeBelow(int percentile, long maxMillis) {
+        loadMethods.verifyLatencyPercentileBelow(percentile, maxMillis);
+    }
+
+    @Then("no concurrently created booking IDs should be duplicated or lost")
+    public void noConcurrentlyCreatedBookingIdsShouldBeDuplicatedOrLost() {
+        loadMethods.verifyNoDuplicateOrLostBookingIds();
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.models.BookingDates;
+import org.example.models.BookingRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+
+public class BookingComparator {
+    private static final String MISSING = "<missing>";
+    private static final String DATES_FIELD = "bookingdates";
+
+    private final long dateToleranceDays;
+
+    public BookingComparator() {
+        this(0);
+    }
+
+    public BookingComparator(long dateToleranceDays) {
+        if (dateToleranceDays < 0) {
+            throw new IllegalArgumentException("Date tolerance cannot be negative");
+        }
+        this.dateToleranceDays = dateToleranceDays;
+    }
+
+    public BookingDiff compare(BookingRequest expected, JsonNode actual) {
+        BookingDiff diff = new BookingDiff();
+        if (actual == null || !actual.isObject()) {
+            diff.add("$", "booking object", describe(actual));
+            return diff;
+        }
+        compareText(diff, "firstname", expected.getFirstname(), actual.get("firstname"));
+        compareText(diff, "lastname", expected.getLastname(), actual.get("lastname"));
+        compareNumber(diff, "totalprice", BigDecimal.valueOf(expected.getTotalprice()), actual.get("totalprice"));
+        compareBoolean(diff, "depositpaid", expected.isDepositpaid(), actual.get("depositpaid"));
+        BookingDates dates = expected.getBookingdates();
+        JsonNode actualDates = actual.get(DATES_FIELD);
+        compareDate(diff, DATES_FIELD + ".checkin", toLocalDate(dates.getCheckin()), field(actualDates, "checkin"));
+        compareDate(diff, DATES_FIELD + ".checkout", toLocalDate(dates.getCheckout()), field(actualDates, "checkout"));
+        compareText(diff, "additionalneeds", expected.getAdditionalneeds(), actual.get("additionalneeds"));
+        return diff;
+    }
+
+    public BookingDiff compare(Map<String, String> expected, JsonNode actual) {
+        BookingDiff diff = new BookingDiff();
+        if (actual == null || !actual.isObject()) {
+            diff.add("$", "booking object", describe(actual));
+            return diff;
+        }
+        expected.forEach((key, expectedValue) -> {
+            String path = canonicalPath(key);
+            compareValue(diff, path, expectedValue, resolve(actual, path));
+        });
+        return diff;
+    }
+
+    private void compareValue(BookingDiff diff, String path, String expected, JsonNode actual) {
+        if (actual == null || actual.isMissingNode() || actual.isNull()) {
+            if (expected != null) {
+                diff.add(path, expected, MISSING);
+            }
+        } else if (expected == null) {
+            diff.add(path, null, describe(actual));
+        } else if (isDatePath(path)) {
+            LocalDate expectedDate = parseLocalDate(expected);
+            if (expectedDate == null) {
+                compareText(diff, path, expected, actual);
+            } else {
+                compareDate(diff, path, expectedDate, actual);
+            }
+        } else if (actual.isNumber()) {
+            BigDecimal expectedNumber = parseNumber(expected);
+            if (expectedNumber == null) {
+                diff.add(path, expected, describe(actual));
+            } else {
+                compareNumber(diff, path, expectedNumber, actual);
+            }
+        } else if (actual.isBoolean()) {
+            if (!expected.equalsIgnoreCase("true") && !expected.equalsIgnoreCase("false")) {
+                diff.add(path, expected, describe(actual));
+            } else {
+                compareBoolean(diff, path, Boolean.parseBoolean(expected.toLowerCase()), actual);
+            }
+        } else {
+            compareText(diff, path, expected, actual);
+        }
+    }
+
+    private void compareText(BookingDiff diff, String path, String expected, JsonNode actual) {
+        if (actual == null || actual.isMissingNode() || actual.isNull()) {
+            if (expected != null) {
+                diff.add(path, expected, MISSING);
+            }
+        } else if (expected == null || !actual.isValueNode() || !expected.equals(actual.asText())) {
+            diff.add(path, expected, describe(actual));
+        }
+    }
+
+    private void compareNumber(BookingDiff diff, String path, BigDecimal expected, JsonNode actual) {
+        BigDecimal actualNumber = null;
+        if (actual != null && actual.isNumber()) {
+            actualNumber = actual.decimalValue();
+        } else if (actual != null && actual.isTextual()) {
+            actualNumber = parseNumber(actual.asText());
+        }
+        if (actualNumber == null || expected.compareTo(actualNumber) != 0) {
+            diff.add(path, expected.toPlainString(), describe(actual));
+        }
+    }
+
+    private void compareBoolean(BookingDiff diff, String path, boolean expected, JsonNode actual) {
+        boolean matches = actual != null
+                && (actual.isBoolean() ? actual.booleanValue() == expected
+                : actual.isTextual() && actual.asText().equalsIgnoreCase(String.valueOf(expected)));
+        if (!matches) {
+            diff.add(path, String.valueOf(expected), describe(actual));
+        }
+    }
+
+    private void compareDate(BookingDiff diff, String path, LocalDate expected, JsonNode actual) {
+        LocalDate actualDate = actual != null && actual.isTextual() ? parseLocalDate(actual.asText()) : null;
+        if (actualDate == null || Math.abs(ChronoUnit.DAYS.between(expected, actualDate)) > dateToleranceDays) {
+            diff.add(path, expected.toString(), describe(actual));
+        }
+    }
+
+    private static String canonicalPath(String key) {
+        String trimmed = key.trim();
+        return isDatePath(trimmed) && !trimmed.contains(".") ? DATES_FIELD + "." + trimmed : trimmed;
+    }
+
+    private static boolean isDatePath(String path) {
+        return path.endsWith("checkin") || path.endsWith("checkout");
+    }
+
+    private static JsonNode resolve(JsonNode root, String path) {
+        JsonNode node = root;
+        int start = 0;
+        while (node != null && start <= path.length()) {
+            int end = path.indexOf('.', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            node = node.get(path.substring(start, end));
+            start = end + 1;
+        }
+        return node;
+    }
+
+    private static JsonNode field(JsonNode node, String name) {
+        return node == null ? null : node.get(name);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atOffset(ZoneOffset.UTC).toLocalDate();
+    }
+
+    private static LocalDate parseLocalDate(String value) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static BigDecimal parseNumber(String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String describe(JsonNode node) {
+        if (node == null || node.isMissingNode()) {
+            return MISSING;
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BookingDiff {
+    private final List<FieldDifference> differences = new ArrayList<>();
+
+    void add(String path, String expected, String actual) {
+        differences.add(new FieldDifference(path, expected, actual));
+    }
+
+    public boolean isEmpty() {
+        return differences.isEmpty();
+    }
+
+    public int size() {
+        return differences.size();
+    }
+
+    public List<FieldDifference> getDifferences() {
+        return Collections.unmodifiableList(differences);
+    }
+
+    public List<String> getPaths() {
+        return differences.stream().map(FieldDifference::getPath).collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        if (differences.isEmpty()) {
+            return "no differences";
+        }
+        StringBuilder message = new StringBuilder()
+                .append(differences.size())
+                .append(differences.size() == 1 ? " field differs:" : " fields differ:");
+        for (FieldDifference difference : differences) {
+            message.append(System.lineSeparator()).append("  ").append(difference);
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.verify;
+
+public class FieldDifference {
+    private final String path;
+    private final String expected;
+    private final String actual;
+
+    public FieldDifference(String path, String expected, String actual) {
+        this.path = path;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getExpected() {
+        return expected;
+    }
+
+    public String getActual() {
+        return actual;
+    }
+
+    @Override
+    public String toString() {
+        return path + ": expected <" + expected + "> but was <" + actual + ">";
+    }
+}
@@ -7,4 +7,11 @@ Feature: Create Booking
     When I create the booking
     Then the response status code should be 200
     And the response should contain a valid booking ID
-    And the response should match the request data
\ No newline at end of file
+    And the response should match the request data
+
+  Scenario: Create booking with generated data
+    Given I prepare generated booking data with seed 42
+    When I create the booking
+    Then the response status code should be 200
+    And the response should contain a valid booking ID
+    And the response should match the request data
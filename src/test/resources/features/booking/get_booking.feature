@@ -10,4 +10,10 @@ Feature: Get Booking Details by ID (JSON)
     When I request details for booking ID "test_booking"
     Then the response status code should be 200
     And the response should contain valid JSON booking details
-    And the response booking dates should be valid
\ No newline at end of file
+    And the response booking dates should be valid
+
+  Scenario: Get booking details within latency budget
+    When I request details for booking ID "test_booking" 10 times
+    Then the response status code should be 200
+    And the response time should be below 5000 ms
+    And the p95 of the last 10 GET /booking/{id} calls should be below 5000 ms
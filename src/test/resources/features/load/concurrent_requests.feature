@@ -0,0 +1,18 @@
+@load
+Feature: Concurrent Booking Requests
+
+  Scenario: Concurrent reads of the same booking
+    Given I have a valid auth token
+    And I create a test booking with following data
+      | firstname | lastname | checkin     | checkout    |
+      | John      | Doe      | 2023-01-01  | 2023-01-10  |
+    When I send 20 concurrent GET requests for the created booking
+    Then all concurrent responses should have status code 200
+    And the concurrent throughput should be at least 2.0 requests per second
+    And the concurrent p95 latency should be below 10000 ms
+
+  Scenario: Concurrent booking creation
+    When 10 users concurrently create bookings
+    Then at least 90% of concurrent responses should have status code 200
+    And the concurrent p95 latency should be below 10000 ms
+    And no concurrently created booking IDs should be duplicated or lost
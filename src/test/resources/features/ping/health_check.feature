@@ -1,5 +1,6 @@
 Feature: API Health Check
 
+  @maxCalls=1
   Scenario: Check API health status
     When I check the API health status
     Then the API is up and running
\ No newline at end of file